@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.builder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.codehaus.plexus.util.FileUtils;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ICallable;
+import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
+import org.eclipse.m2e.core.internal.builder.MavenBuilderImpl;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.configurator.AbstractBuildParticipant;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class MavenBuilderImplTest extends AbstractMavenProjectTestCase {
+
+  private static final int GENERATED_DIRS = 20;
+
+  private static final int GENERATED_FILES_PER_DIR = 50;
+
+  public void testThreadSafeParticipantsRunConcurrently() throws Exception {
+    IMavenProjectFacade facade = importFacade();
+    File basedir = facade.getProject().getLocation().toFile();
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    TestParticipant a = new TestParticipant(new File(basedir, "a"), barrier, false); //$NON-NLS-1$
+    TestParticipant b = new TestParticipant(new File(basedir, "b"), barrier, false); //$NON-NLS-1$
+
+    MavenSession session = build(facade, a, b);
+
+    // both participants passed the barrier, i.e. were executing at the same time
+    assertNull(a.failure);
+    assertNull(b.failure);
+    assertNotSame(a.thread, b.thread);
+
+    // each participant has its own session and a copy of the project
+    assertNotSame(session, a.session);
+    assertNotSame(session, b.session);
+    assertNotSame(a.session, b.session);
+    assertNotSame(facade.getMavenProject(), a.project);
+    assertEquals(facade.getMavenProject().getId(), a.project.getId());
+    assertEquals(facade.getMavenProject().getBasedir(), a.project.getBasedir());
+  }
+
+  public void testConcurrentParticipantCannotBeginWorkspaceRule() throws Exception {
+    final IMavenProjectFacade facade = importFacade();
+    File basedir = facade.getProject().getLocation().toFile();
+    final TestParticipant a = new TestParticipant(new File(basedir, "a"), null, true); //$NON-NLS-1$
+    final TestParticipant b = new TestParticipant(new File(basedir, "b"), null, true); //$NON-NLS-1$
+
+    // like the workspace build, hold the project rule while participants execute
+    workspace.run(new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        build(facade, a, b);
+      }
+    }, facade.getProject(), 0, monitor);
+
+    assertTrue(String.valueOf(a.failure), a.failure instanceof IllegalArgumentException);
+    assertTrue(String.valueOf(b.failure), b.failure instanceof IllegalArgumentException);
+  }
+
+  public void testRefreshOfGeneratedFilesBenchmark() throws Exception {
+    IMavenProjectFacade facade = importFacade();
+    final IProject project = facade.getProject();
+    GeneratingParticipant participant = new GeneratingParticipant(new File(project.getLocation().toFile(),
+        "generated")); //$NON-NLS-1$
+
+    final Set<IPath> changed = Collections.synchronizedSet(new HashSet<IPath>());
+    IResourceChangeListener listener = new IResourceChangeListener() {
+      public void resourceChanged(IResourceChangeEvent event) {
+        try {
+          event.getDelta().accept(new IResourceDeltaVisitor() {
+            public boolean visit(IResourceDelta delta) {
+              if(delta.getResource().getType() == IResource.FILE) {
+                changed.add(delta.getResource().getFullPath());
+              }
+              return true;
+            }
+          });
+        } catch(CoreException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+    workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    long coalesced;
+    try {
+      long start = System.nanoTime();
+      build(facade, participant);
+      coalesced = System.nanoTime() - start - participant.generateTime;
+    } finally {
+      workspace.removeResourceChangeListener(listener);
+    }
+    assertNull(participant.failure);
+
+    // every reported file is known to the workspace and was reported in a resource delta
+    List<IFile> files = new ArrayList<IFile>();
+    for(File file : participant.files) {
+      IFile resource = project.getFile(MavenBuilderImpl.getProjectRelativePath(project, file));
+      assertTrue(resource.toString(), resource.exists());
+      assertTrue(resource.toString(), changed.contains(resource.getFullPath()));
+      files.add(resource);
+    }
+
+    // refresh the same number of files one by one, like before refreshes were coalesced
+    participant.generate();
+    long start = System.nanoTime();
+    for(IFile file : files) {
+      file.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+      if(file.exists()) {
+        file.touch(monitor);
+      }
+    }
+    long perFile = System.nanoTime() - start;
+
+    System.out.println("Refresh of " + files.size() + " generated files, " //$NON-NLS-1$ //$NON-NLS-2$
+        + "coalesced (with build overhead): " //$NON-NLS-1$
+        + TimeUnit.NANOSECONDS.toMillis(coalesced) + " ms, one by one: " //$NON-NLS-1$
+        + TimeUnit.NANOSECONDS.toMillis(perFile) + " ms"); //$NON-NLS-1$
+  }
+
+  private IMavenProjectFacade importFacade() throws Exception {
+    IProject project = importProject("projects/builder/concurrent/pom.xml"); //$NON-NLS-1$
+    waitForJobsToComplete();
+    return MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+  }
+
+  private MavenSession build(final IMavenProjectFacade facade, TestParticipant... testParticipants)
+      throws CoreException {
+    final Map<MojoExecutionKey, List<AbstractBuildParticipant>> participants = new LinkedHashMap<>();
+    for(TestParticipant participant : testParticipants) {
+      MojoExecutionKey key = new MojoExecutionKey("test", "test", "1", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          participant.location.getName(), "compile", "default"); //$NON-NLS-1$ //$NON-NLS-2$
+      participants.put(key, Collections.<AbstractBuildParticipant> singletonList(participant));
+    }
+    return MavenPlugin.getMaven().createExecutionContext().execute(facade.getMavenProject(monitor),
+        new ICallable<MavenSession>() {
+          public MavenSession call(IMavenExecutionContext context, IProgressMonitor monitor) throws CoreException {
+            new MavenBuilderImpl().build(context.getSession(), facade, IncrementalProjectBuilder.FULL_BUILD,
+                Collections.<String, String> emptyMap(), participants, monitor);
+            return context.getSession();
+          }
+        }, monitor);
+  }
+
+  static class TestParticipant extends AbstractBuildParticipant {
+    final File location;
+
+    private final CyclicBarrier barrier;
+
+    private final boolean refresh;
+
+    Thread thread;
+
+    MavenSession session;
+
+    MavenProject project;
+
+    Throwable failure;
+
+    TestParticipant(File location, CyclicBarrier barrier, boolean refresh) {
+      this.location = location;
+      this.barrier = barrier;
+      this.refresh = refresh;
+    }
+
+    public Set<IProject> build(int kind, IProgressMonitor monitor) throws Exception {
+      thread = Thread.currentThread();
+      session = getSession();
+      project = session.getCurrentProject();
+      try {
+        if(barrier != null) {
+          barrier.await(30, TimeUnit.SECONDS);
+        }
+        if(refresh) {
+          getMavenProjectFacade().getProject().refreshLocal(IResource.DEPTH_ZERO, monitor);
+        }
+      } catch(Exception e) {
+        failure = e;
+      }
+      return null;
+    }
+
+    public boolean isThreadSafe() {
+      return true;
+    }
+
+    public Collection<File> getInputLocations() {
+      return Collections.singleton(location);
+    }
+
+    public Collection<File> getOutputLocations() {
+      return Collections.singleton(new File(location, "out")); //$NON-NLS-1$
+    }
+  }
+
+  /**
+   * Generates files below its location and reports them to the build context.
+   */
+  static class GeneratingParticipant extends TestParticipant {
+    final List<File> files = new ArrayList<File>();
+
+    long generateTime;
+
+    GeneratingParticipant(File location) {
+      super(location, null, false);
+    }
+
+    public Set<IProject> build(int kind, IProgressMonitor monitor) throws Exception {
+      try {
+        long start = System.nanoTime();
+        generate();
+        generateTime = System.nanoTime() - start;
+        for(File file : files) {
+          getBuildContext().refresh(file);
+        }
+      } catch(Exception e) {
+        failure = e;
+      }
+      return null;
+    }
+
+    void generate() throws Exception {
+      files.clear();
+      for(int i = 0; i < GENERATED_DIRS; i++ ) {
+        for(int j = 0; j < GENERATED_FILES_PER_DIR; j++ ) {
+          File file = new File(location, "d" + i + "/f" + j + ".txt"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+          FileUtils.fileWrite(file, Long.toString(System.nanoTime()));
+          files.add(file);
+        }
+      }
+    }
+
+    public boolean isThreadSafe() {
+      return false;
+    }
+  }
+}
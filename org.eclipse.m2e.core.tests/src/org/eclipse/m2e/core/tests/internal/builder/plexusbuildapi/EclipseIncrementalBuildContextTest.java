@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.builder.plexusbuildapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.HashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.m2e.core.internal.builder.plexusbuildapi.EclipseIncrementalBuildContext;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class EclipseIncrementalBuildContextTest extends AbstractMavenProjectTestCase {
+
+  private static final String[] PATHS = {
+      "", //$NON-NLS-1$
+      "a", //$NON-NLS-1$
+      "a/b", //$NON-NLS-1$
+      "a/b/c.txt", //$NON-NLS-1$
+      "a/d.txt", //$NON-NLS-1$
+      "a/new.txt", //$NON-NLS-1$
+      "e.txt", //$NON-NLS-1$
+      "x", //$NON-NLS-1$
+      "x/y.txt", //$NON-NLS-1$
+      "missing/c.txt", //$NON-NLS-1$
+      // not canonical
+      "/a/b/c.txt", //$NON-NLS-1$
+      "a/b/", //$NON-NLS-1$
+      "a//b/c.txt", //$NON-NLS-1$
+      "./a/b/c.txt", //$NON-NLS-1$
+      "a/./b/c.txt", //$NON-NLS-1$
+      "a/b/../b/c.txt", //$NON-NLS-1$
+      "a/x/../d.txt", //$NON-NLS-1$
+      "a\\b\\c.txt"}; //$NON-NLS-1$
+
+  private IProject project;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    project = workspace.getRoot().getProject("delta"); //$NON-NLS-1$
+    project.create(monitor);
+    project.open(monitor);
+    createFile("a/b/c.txt"); //$NON-NLS-1$
+    createFile("a/d.txt"); //$NON-NLS-1$
+    createFile("e.txt"); //$NON-NLS-1$
+    createFile("x/y.txt"); //$NON-NLS-1$
+  }
+
+  public void testHasDeltaMatchesDeltaMembers() throws Exception {
+    IResourceDelta delta = changeProject(new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        project.getFile("a/b/c.txt").setContents(contents(), true, false, monitor); //$NON-NLS-1$
+        createFile("a/new.txt"); //$NON-NLS-1$
+        project.getFile("x/y.txt").delete(true, monitor); //$NON-NLS-1$
+      }
+    });
+    EclipseIncrementalBuildContext context = new EclipseIncrementalBuildContext(delta,
+        new HashMap<String, Object>(), null);
+
+    for(String path : PATHS) {
+      assertEquals(path, delta.findMember(new Path(path)) != null, context.hasDelta(path));
+    }
+    assertTrue(context.hasDelta(new File(project.getLocation().toFile(), "a/b/c.txt"))); //$NON-NLS-1$
+    assertFalse(context.hasDelta(new File(project.getLocation().toFile(), "e.txt"))); //$NON-NLS-1$
+  }
+
+  public void testNullDeltaHasDelta() throws Exception {
+    EclipseIncrementalBuildContext context = new EclipseIncrementalBuildContext(null, new HashMap<String, Object>(),
+        null);
+    for(String path : PATHS) {
+      assertTrue(path, context.hasDelta(path));
+    }
+  }
+
+  private IResourceDelta changeProject(IWorkspaceRunnable runnable) throws CoreException {
+    final IResourceDelta[] delta = new IResourceDelta[1];
+    IResourceChangeListener listener = new IResourceChangeListener() {
+      public void resourceChanged(IResourceChangeEvent event) {
+        delta[0] = event.getDelta().findMember(project.getFullPath());
+      }
+    };
+    workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    try {
+      workspace.run(runnable, monitor);
+    } finally {
+      workspace.removeResourceChangeListener(listener);
+    }
+    assertNotNull(delta[0]);
+    return delta[0];
+  }
+
+  private void createFile(String path) throws CoreException {
+    IFile file = project.getFile(path);
+    for(int i = 1; i < file.getProjectRelativePath().segmentCount(); i++ ) {
+      IFolder folder = project.getFolder(file.getProjectRelativePath().uptoSegment(i));
+      if(!folder.exists()) {
+        folder.create(true, true, monitor);
+      }
+    }
+    file.create(contents(), true, monitor);
+  }
+
+  private static ByteArrayInputStream contents() {
+    return new ByteArrayInputStream(Long.toString(System.nanoTime()).getBytes());
+  }
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.builder.plexusbuildapi;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceVisitor;
+import org.eclipse.core.runtime.CoreException;
+
+import org.codehaus.plexus.util.AbstractScanner;
+import org.codehaus.plexus.util.DirectoryScanner;
+import org.codehaus.plexus.util.FileUtils;
+
+import org.eclipse.m2e.core.internal.builder.plexusbuildapi.ResourceScanner;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+/**
+ * Compares {@link ResourceScanner} results with {@link DirectoryScanner} on the same tree.
+ */
+@SuppressWarnings("restriction")
+public class ResourceScannerTest extends AbstractMavenProjectTestCase {
+
+  private static final String[] NONE = new String[0];
+
+  private static final String[] FILES = {"pom.xml", //$NON-NLS-1$
+      "src/A.java", //$NON-NLS-1$
+      "src/a.txt", //$NON-NLS-1$
+      "src/sub/b.txt", //$NON-NLS-1$
+      "src/sub/deep/B.TXT", //$NON-NLS-1$
+      "src/node_modules/m/c.txt", //$NON-NLS-1$
+      "node_modules/m/lib/d.txt", //$NON-NLS-1$
+      "target/classes/e.txt", //$NON-NLS-1$
+      "target/generated/F.java", //$NON-NLS-1$
+      "targets/g.txt"}; //$NON-NLS-1$
+
+  /** generated benchmark tree: packages, files per package, node modules, files per module, class files */
+  private static final int PACKAGES = 20;
+
+  private static final int SOURCES_PER_PACKAGE = 100;
+
+  private static final int MODULES = 80;
+
+  private static final int FILES_PER_MODULE = 1000;
+
+  private static final int CLASSES_PER_PACKAGE = 900;
+
+  private static final int RUNS = 5;
+
+  private IProject project;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    project = workspace.getRoot().getProject("scanner"); //$NON-NLS-1$
+    project.create(monitor);
+    project.open(monitor);
+    File basedir = project.getLocation().toFile();
+    for(String path : FILES) {
+      FileUtils.fileWrite(new File(basedir, path), path);
+    }
+    project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+  }
+
+  public void testExcludedSubtrees() throws Exception {
+    assertSameResult(new String[] {"**/*.txt"}, //$NON-NLS-1$
+        new String[] {"target/**", "**/node_modules/**"}); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testIncludeAllExcludeSubtree() throws Exception {
+    assertSameResult(new String[] {"**"}, new String[] {"**/sub/**"}); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testIncludedSubtree() throws Exception {
+    assertSameResult(new String[] {"src/**"}, NONE); //$NON-NLS-1$
+  }
+
+  public void testDefaultIncludes() throws Exception {
+    // no includes selects everything
+    assertSameResult(null, new String[] {"**/*.java", "target/**"}); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testExcludedFileNotDirectory() throws Exception {
+    // excludes that do not end with /** must not prune directories
+    assertSameResult(new String[] {"**/*.txt"}, //$NON-NLS-1$
+        new String[] {"target", "src/sub/*"}); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testCaseInsensitive() throws Exception {
+    assertSameResult(new String[] {"**/*.txt"}, new String[] {"SRC/SUB/**"}, false); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testSharedPatterns() throws Exception {
+    // the second scanner uses cached patterns
+    assertSameResult(new String[] {"src/**/*.txt"}, new String[] {"**/node_modules/**"}); //$NON-NLS-1$ //$NON-NLS-2$
+    assertSameResult(new String[] {"src/**/*.txt"}, new String[] {"**/node_modules/**"}); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testScanBenchmark() throws Exception {
+    IProject project = workspace.getRoot().getProject("scanner-benchmark"); //$NON-NLS-1$
+    project.create(monitor);
+    project.open(monitor);
+    int files = generateTree(project.getLocation().toFile());
+    project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+
+    String[] includes = {"**/*.java"}; //$NON-NLS-1$
+    String[] excludes = {"**/node_modules/**", "target/**"}; //$NON-NLS-1$ //$NON-NLS-2$
+
+    long pruned = Long.MAX_VALUE;
+    long unpruned = Long.MAX_VALUE;
+    String[] prunedFiles = null;
+    String[] unprunedFiles = null;
+    for(int i = 0; i < RUNS; i++ ) {
+      long start = System.nanoTime();
+      UnprunedResourceScanner unprunedScanner = new UnprunedResourceScanner(project);
+      unprunedScanner.setIncludes(includes);
+      unprunedScanner.setExcludes(excludes);
+      unprunedScanner.scan();
+      unprunedFiles = unprunedScanner.getIncludedFiles();
+      unpruned = Math.min(unpruned, System.nanoTime() - start);
+
+      start = System.nanoTime();
+      ResourceScanner scanner = new ResourceScanner(project);
+      scanner.setIncludes(includes);
+      scanner.setExcludes(excludes);
+      scanner.scan();
+      prunedFiles = scanner.getIncludedFiles();
+      pruned = Math.min(pruned, System.nanoTime() - start);
+    }
+
+    assertEquals(PACKAGES * SOURCES_PER_PACKAGE, prunedFiles.length);
+    assertEquals(sorted(unprunedFiles), sorted(prunedFiles));
+    System.out.println("Scan of " + files + " files, best of " + RUNS + " runs, pruned: " //$NON-NLS-1$ //$NON-NLS-2$
+        + TimeUnit.NANOSECONDS.toMillis(pruned) + " ms, not pruned: " //$NON-NLS-1$
+        + TimeUnit.NANOSECONDS.toMillis(unpruned) + " ms"); //$NON-NLS-1$
+  }
+
+  /**
+   * Generates sources, node modules and build output, most files are in excluded subtrees.
+   */
+  private static int generateTree(File basedir) throws IOException {
+    int files = 0;
+    for(int i = 0; i < PACKAGES; i++ ) {
+      File sources = new File(basedir, "src/main/java/p" + i); //$NON-NLS-1$
+      File classes = new File(basedir, "target/classes/p" + i); //$NON-NLS-1$
+      for(int j = 0; j < SOURCES_PER_PACKAGE; j++ ) {
+        files += write(new File(sources, "C" + j + ".java")); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+      for(int j = 0; j < CLASSES_PER_PACKAGE; j++ ) {
+        files += write(new File(classes, "C" + j + ".class")); //$NON-NLS-1$ //$NON-NLS-2$
+      }
+    }
+    for(int i = 0; i < MODULES; i++ ) {
+      File module = new File(basedir, "node_modules/m" + i + "/lib"); //$NON-NLS-1$ //$NON-NLS-2$
+      for(int j = 0; j < FILES_PER_MODULE; j++ ) {
+        // a few node modules ship java sources, they must stay excluded
+        boolean java = j % 100 == 0;
+        files += write(new File(module, "f" + j + (java ? ".java" : ".js"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+      }
+    }
+    return files;
+  }
+
+  private static int write(File file) throws IOException {
+    file.getParentFile().mkdirs();
+    file.createNewFile();
+    return 1;
+  }
+
+  private void assertSameResult(String[] includes, String[] excludes) throws IOException {
+    assertSameResult(includes, excludes, true);
+  }
+
+  private void assertSameResult(String[] includes, String[] excludes, boolean caseSensitive) throws IOException {
+    DirectoryScanner expected = new DirectoryScanner();
+    expected.setBasedir(project.getLocation().toFile());
+    expected.setIncludes(includes);
+    expected.setExcludes(excludes);
+    expected.setCaseSensitive(caseSensitive);
+    expected.scan();
+
+    ResourceScanner actual = new ResourceScanner(project);
+    actual.setIncludes(includes);
+    actual.setExcludes(excludes);
+    actual.setCaseSensitive(caseSensitive);
+    actual.scan();
+
+    String message = Arrays.toString(includes) + " " + Arrays.toString(excludes); //$NON-NLS-1$
+    assertEquals(message, sorted(expected.getIncludedFiles()), sorted(actual.getIncludedFiles()));
+    assertEquals(message, sorted(expected.getIncludedDirectories()), sorted(actual.getIncludedDirectories()));
+  }
+
+  private static List<String> sorted(String[] paths) {
+    String[] copy = paths.clone();
+    Arrays.sort(copy);
+    return Arrays.asList(copy);
+  }
+  /**
+   * Scanner that matches patterns like {@link ResourceScanner} did before excluded subtrees were pruned, it visits
+   * every folder that could hold included resources.
+   */
+  static class UnprunedResourceScanner extends AbstractScanner {
+    private final IResource resource;
+
+    final List<String> includedFiles = new ArrayList<String>();
+
+    UnprunedResourceScanner(IResource resource) {
+      this.resource = resource;
+    }
+
+    public void scan() {
+      setupDefaultFilters();
+      setupMatchPatterns();
+      try {
+        resource.accept(new IResourceVisitor() {
+          public boolean visit(IResource member) {
+            String relpath = member.getFullPath().removeFirstSegments(resource.getFullPath().segmentCount())
+                .toOSString();
+            if(isIncluded(relpath) && !isExcluded(relpath)) {
+              if(!(member instanceof IContainer)) {
+                includedFiles.add(relpath);
+              }
+              return true;
+            } else if(member instanceof IFolder) {
+              return couldHoldIncluded(relpath);
+            }
+            return false;
+          }
+        });
+      } catch(CoreException ex) {
+        throw new IllegalStateException(ex);
+      }
+    }
+
+    public String[] getIncludedFiles() {
+      return includedFiles.toArray(new String[includedFiles.size()]);
+    }
+
+    public String[] getIncludedDirectories() {
+      throw new UnsupportedOperationException();
+    }
+
+    public File getBasedir() {
+      return resource.getLocation().toFile();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.embedder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.LegacySupport;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ICallable;
+import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.MavenImpl;
+import org.eclipse.m2e.core.internal.embedder.WorkerThreadFactory;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class MavenExecutionContextTest extends AbstractMavenProjectTestCase {
+
+  public void testPropagatedTaskKeepsOwnerLegacySession() throws Exception {
+    assertOwnerLegacySession(Executors.newFixedThreadPool(2, new WorkerThreadFactory("test"))); //$NON-NLS-1$
+  }
+
+  public void testPropagatedTaskOnInheritingThreadKeepsOwnerLegacySession() throws Exception {
+    // threads of the default thread factory are created by the owner thread and inherit its legacy session
+    assertOwnerLegacySession(Executors.newFixedThreadPool(2));
+  }
+
+  public void testOwnerCannotSwitchProjectWhilePropagatedTaskRuns() throws Exception {
+    final ExecutorService executor = MavenExecutionContext
+        .wrap(Executors.newFixedThreadPool(1, new WorkerThreadFactory("test"))); //$NON-NLS-1$
+    try {
+      MavenPlugin.getMaven().execute(new ICallable<Void>() {
+        public Void call(IMavenExecutionContext context, IProgressMonitor monitor) throws CoreException {
+          final CountDownLatch started = new CountDownLatch(1);
+          final CountDownLatch release = new CountDownLatch(1);
+          Future<?> task = executor.submit(new Callable<Void>() {
+            public Void call() throws InterruptedException {
+              started.countDown();
+              release.await();
+              return null;
+            }
+          });
+          try {
+            started.await();
+            try {
+              context.execute(new MavenProject(), new ICallable<Void>() {
+                public Void call(IMavenExecutionContext context, IProgressMonitor monitor) {
+                  fail("current project of a shared session must not change"); //$NON-NLS-1$
+                  return null;
+                }
+              }, monitor);
+              fail("IllegalStateException expected"); //$NON-NLS-1$
+            } catch(IllegalStateException expected) {
+              // expected
+            }
+            release.countDown();
+            task.get();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            // the project can be switched once propagated tasks completed
+            final MavenProject project = new MavenProject();
+            context.execute(project, new ICallable<Void>() {
+              public Void call(IMavenExecutionContext context, IProgressMonitor monitor) {
+                assertSame(project, context.getSession().getCurrentProject());
+                return null;
+              }
+            }, monitor);
+          } catch(Exception ex) {
+            throw new AssertionError(ex);
+          } finally {
+            release.countDown();
+          }
+          return null;
+        }
+      }, monitor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private void assertOwnerLegacySession(ExecutorService delegate) throws Exception {
+    final LegacySupport legacySupport = ((MavenImpl) MavenPlugin.getMaven()).lookupComponent(LegacySupport.class);
+    final ExecutorService executor = MavenExecutionContext.wrap(delegate);
+    try {
+      MavenPlugin.getMaven().execute(new ICallable<Void>() {
+        public Void call(IMavenExecutionContext context, IProgressMonitor monitor) throws CoreException {
+          MavenSession session = context.getSession();
+          assertSame(session, legacySupport.getSession());
+          for(int i = 0; i < 4; i++ ) {
+            MavenSession workerSession;
+            try {
+              workerSession = executor.submit(new Callable<MavenSession>() {
+                public MavenSession call() {
+                  return legacySupport.getSession();
+                }
+              }).get();
+            } catch(Exception ex) {
+              throw new AssertionError(ex);
+            }
+            assertSame(session, workerSession);
+            assertSame(session, legacySupport.getSession());
+          }
+          return null;
+        }
+      }, monitor);
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
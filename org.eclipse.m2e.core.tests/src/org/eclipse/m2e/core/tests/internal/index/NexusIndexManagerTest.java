@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.index;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.util.FileUtils;
+
+import org.apache.maven.index.context.IndexingContext;
+import org.apache.maven.index.updater.AbstractResourceFetcher;
+import org.apache.maven.index.updater.IndexUpdateRequest;
+import org.apache.maven.index.updater.IndexUpdater;
+import org.apache.maven.index.updater.ResourceFetcher;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.index.IIndex;
+import org.eclipse.m2e.core.internal.index.IndexedArtifact;
+import org.eclipse.m2e.core.internal.index.UserInputSearchExpression;
+import org.eclipse.m2e.core.internal.index.nexus.NexusIndex;
+import org.eclipse.m2e.core.internal.index.nexus.NexusIndexManager;
+import org.eclipse.m2e.core.internal.repository.RepositoryInfo;
+import org.eclipse.m2e.core.repository.IRepository;
+import org.eclipse.m2e.core.repository.IRepositoryRegistry;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class NexusIndexManagerTest extends AbstractMavenProjectTestCase {
+
+  private static final int SEARCHERS = 4;
+
+  private static final int UPDATES = 20;
+
+  private DefaultPlexusContainer container;
+
+  private File stateDir;
+
+  private BlockingResourceFetcher fetcher;
+
+  private TestIndexManager indexManager;
+
+  private IRepository repository;
+
+  private ExecutorService executor;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    ContainerConfiguration cc = new DefaultContainerConfiguration() //
+        .setClassWorld(new ClassWorld("plexus.core", IndexUpdater.class.getClassLoader())) //$NON-NLS-1$
+        .setClassPathScanning(PlexusConstants.SCANNING_INDEX) //
+        .setAutoWiring(true) //
+        .setName("plexus"); //$NON-NLS-1$
+    container = new DefaultPlexusContainer(cc);
+    stateDir = Files.createTempDirectory("m2e-index").toFile(); //$NON-NLS-1$
+    fetcher = new BlockingResourceFetcher();
+    indexManager = new TestIndexManager(container, stateDir, fetcher);
+    // remote repository, the index is never actually downloaded
+    repository = new RepositoryInfo("test-remote", "http://localhost/m2e-test-remote", //$NON-NLS-1$ //$NON-NLS-2$
+        IRepositoryRegistry.SCOPE_SETTINGS, null);
+    indexManager.createIndexingContext(repository, NexusIndex.DETAILS_MIN);
+    executor = Executors.newFixedThreadPool(SEARCHERS + 1);
+  }
+
+  protected void tearDown() throws Exception {
+    try {
+      fetcher.release();
+      executor.shutdownNow();
+      indexManager.repositoryRemoved(repository, monitor);
+      container.dispose();
+      FileUtils.deleteDirectory(stateDir);
+    } finally {
+      super.tearDown();
+    }
+  }
+
+  public void testSearchDoesNotWaitForRemoteIndexDownload() throws Exception {
+    Future<Void> update = executor.submit(new UpdateIndex(1, null));
+    assertTrue(fetcher.awaitFetching());
+
+    // the update is downloading the remote index, searches must not wait for it
+    assertNotNull(executor.submit(new Search()).get(10, TimeUnit.SECONDS));
+    assertFalse(update.isDone());
+
+    fetcher.release();
+    update.get(30, TimeUnit.SECONDS);
+    assertTrue(indexManager.getIndexingContext(repository).isSearchable());
+  }
+
+  public void testConcurrentSearchesDuringUpdates() throws Exception {
+    // downloads fail right away, updates still go through the locking of the index update
+    fetcher.release();
+    AtomicBoolean updating = new AtomicBoolean(true);
+    List<Future<Integer>> searchers = new ArrayList<Future<Integer>>();
+    for(int i = 0; i < SEARCHERS; i++ ) {
+      searchers.add(executor.submit(new RepeatedSearch(updating)));
+    }
+    Future<Void> update = executor.submit(new UpdateIndex(UPDATES, updating));
+
+    update.get(60, TimeUnit.SECONDS);
+    for(Future<Integer> searcher : searchers) {
+      assertTrue(searcher.get(60, TimeUnit.SECONDS) > 0);
+    }
+    assertTrue(indexManager.getIndexingContext(repository).isSearchable());
+  }
+
+  Map<String, IndexedArtifact> search() throws Exception {
+    return indexManager.getIndex(repository).search(new UserInputSearchExpression("org"), //$NON-NLS-1$
+        IIndex.SEARCH_GROUP);
+  }
+
+  class Search implements Callable<Map<String, IndexedArtifact>> {
+    public Map<String, IndexedArtifact> call() throws Exception {
+      return search();
+    }
+  }
+
+  class RepeatedSearch implements Callable<Integer> {
+    private final AtomicBoolean updating;
+
+    RepeatedSearch(AtomicBoolean updating) {
+      this.updating = updating;
+    }
+
+    public Integer call() throws Exception {
+      int count = 0;
+      do {
+        search();
+        count++ ;
+      } while(updating.get());
+      return count;
+    }
+  }
+
+  class UpdateIndex implements Callable<Void> {
+    private final int count;
+
+    private final AtomicBoolean updating;
+
+    UpdateIndex(int count, AtomicBoolean updating) {
+      this.count = count;
+      this.updating = updating;
+    }
+
+    public Void call() throws Exception {
+      try {
+        for(int i = 0; i < count; i++ ) {
+          // progress monitors are not thread safe
+          indexManager.updateIndex(repository, true, new NullProgressMonitor());
+        }
+      } finally {
+        if(updating != null) {
+          updating.set(false);
+        }
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Index manager that fetches remote indexes using the given fetcher.
+   */
+  static class TestIndexManager extends NexusIndexManager {
+    private final ResourceFetcher fetcher;
+
+    private final File cacheDir;
+
+    TestIndexManager(PlexusContainer container, File stateDir, ResourceFetcher fetcher) {
+      super(container, MavenPlugin.getMavenProjectRegistry(), MavenPlugin.getRepositoryRegistry(), stateDir);
+      this.fetcher = fetcher;
+      this.cacheDir = new File(stateDir, "cache"); //$NON-NLS-1$
+    }
+
+    protected IndexUpdateRequest newIndexUpdateRequest(IRepository repository, IndexingContext context,
+        IProgressMonitor monitor) {
+      IndexUpdateRequest request = new IndexUpdateRequest(context, fetcher);
+      cacheDir.mkdirs();
+      request.setLocalIndexCacheDir(cacheDir);
+      return request;
+    }
+
+    protected IndexingContext createIndexingContext(IRepository repository, String details) throws IOException {
+      return super.createIndexingContext(repository, details);
+    }
+  }
+
+  /**
+   * Blocks the first download until released, all downloads fail.
+   */
+  static class BlockingResourceFetcher extends AbstractResourceFetcher {
+    private final CountDownLatch fetching = new CountDownLatch(1);
+
+    private final CountDownLatch released = new CountDownLatch(1);
+
+    boolean awaitFetching() throws InterruptedException {
+      return fetching.await(30, TimeUnit.SECONDS);
+    }
+
+    void release() {
+      released.countDown();
+    }
+
+    public void connect(String id, String url) throws IOException {
+      block();
+    }
+
+    public void disconnect() {
+    }
+
+    public void retrieve(String name, File targetFile) throws IOException {
+      block();
+      throw new FileNotFoundException(name);
+    }
+
+    private void block() throws IOException {
+      fetching.countDown();
+      try {
+        released.await(30, TimeUnit.SECONDS);
+      } catch(InterruptedException ex) {
+        throw new InterruptedIOException();
+      }
+    }
+  }
+}
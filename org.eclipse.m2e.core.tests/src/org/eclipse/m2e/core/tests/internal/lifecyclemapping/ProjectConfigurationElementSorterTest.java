@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.lifecyclemapping;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.ProjectConfigurationElementSorter;
+
+
+@SuppressWarnings("restriction")
+public class ProjectConfigurationElementSorterTest extends TestCase {
+
+  private static final int CONFIGURATORS = 40;
+
+  /** distinct configurator combinations, i.e. kinds of projects */
+  private static final int PROJECT_KINDS = 8;
+
+  private static final int CONFIGURATORS_PER_EXECUTION = 5;
+
+  private static final int PROJECTS = 200;
+
+  private static final int EXECUTIONS_PER_PROJECT = 10;
+
+  public void testSortRespectsRunsAfter() throws Exception {
+    Map<String, IConfigurationElement> install = newInstall();
+    List<String> sorted = new ProjectConfigurationElementSorter(install).getSortedConfigurators();
+
+    assertEquals(CONFIGURATORS, sorted.size());
+    for(int i = 0; i < CONFIGURATORS; i++ ) {
+      for(String predecessor : getRunsAfter(i)) {
+        String id = id(i);
+        assertTrue(id + " after " + predecessor, sorted.indexOf(predecessor) < sorted.indexOf(id)); //$NON-NLS-1$
+      }
+    }
+  }
+
+  public void testSortIsStableForSameIds() throws Exception {
+    // sorters are cached by configurator ids in iteration order, equal ids must give equal order
+    Map<String, IConfigurationElement> install = newInstall();
+    for(Set<String> ids : newProjectKinds()) {
+      assertEquals(new ProjectConfigurationElementSorter(ids, install).getSortedConfigurators(),
+          new ProjectConfigurationElementSorter(new LinkedHashSet<>(ids), install).getSortedConfigurators());
+    }
+  }
+
+  public void testCachedSortBenchmark() throws Exception {
+    Map<String, IConfigurationElement> install = newInstall();
+    List<Set<String>> kinds = newProjectKinds();
+
+    // sorter per mojo execution of every project
+    long start = System.nanoTime();
+    List<List<String>> expected = new ArrayList<>();
+    for(int p = 0; p < PROJECTS; p++ ) {
+      for(int e = 0; e < EXECUTIONS_PER_PROJECT; e++ ) {
+        Set<String> ids = kinds.get((p + e) % kinds.size());
+        expected.add(new ProjectConfigurationElementSorter(ids, install).getSortedConfigurators());
+      }
+    }
+    long uncached = System.nanoTime() - start;
+
+    // sorter per distinct configurator ids, keyed like LifecycleMappingFactory does
+    start = System.nanoTime();
+    Map<List<String>, ProjectConfigurationElementSorter> sorters = new HashMap<>();
+    List<List<String>> actual = new ArrayList<>();
+    for(int p = 0; p < PROJECTS; p++ ) {
+      for(int e = 0; e < EXECUTIONS_PER_PROJECT; e++ ) {
+        List<String> key = new ArrayList<>(kinds.get((p + e) % kinds.size()));
+        ProjectConfigurationElementSorter sorter = sorters.get(key);
+        if(sorter == null) {
+          sorter = new ProjectConfigurationElementSorter(new LinkedHashSet<>(key), install);
+          sorters.put(key, sorter);
+        }
+        actual.add(sorter.getSortedConfigurators());
+      }
+    }
+    long cached = System.nanoTime() - start;
+
+    assertEquals(expected, actual);
+    assertEquals(PROJECT_KINDS, sorters.size());
+    System.out.println("Configurator sort, " + CONFIGURATORS + " configurators, " //$NON-NLS-1$ //$NON-NLS-2$
+        + PROJECTS * EXECUTIONS_PER_PROJECT + " executions: " + uncached / 1000000 //$NON-NLS-1$
+        + "ms per execution, " + cached / 1000000 + "ms cached"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static String id(int i) {
+    return "configurator" + i; //$NON-NLS-1$
+  }
+
+  /**
+   * Configurators form a tree, every fourth configurator also optionally runs after its predecessor.
+   */
+  private static List<String> getRunsAfter(int i) {
+    List<String> runsAfter = new ArrayList<>();
+    if(i > 0) {
+      runsAfter.add(id(i / 2));
+    }
+    if(i > 1 && i % 4 == 0) {
+      runsAfter.add(id(i - 1));
+    }
+    return runsAfter;
+  }
+
+  private static Map<String, IConfigurationElement> newInstall() {
+    Map<String, IConfigurationElement> install = new LinkedHashMap<>();
+    for(int i = 0; i < CONFIGURATORS; i++ ) {
+      Map<String, String> attributes = new HashMap<>();
+      attributes.put("id", id(i)); //$NON-NLS-1$
+      List<String> runsAfter = getRunsAfter(i);
+      if(!runsAfter.isEmpty()) {
+        StringBuilder value = new StringBuilder(runsAfter.get(0));
+        for(int j = 1; j < runsAfter.size(); j++ ) {
+          value.append(',').append(runsAfter.get(j)).append('?');
+        }
+        attributes.put("runsAfter", value.toString()); //$NON-NLS-1$
+      }
+      install.put(id(i), newConfigurationElement(attributes));
+    }
+    return install;
+  }
+
+  /**
+   * Returns configurator ids of mojo executions of each kind of project, a few configurators with their ancestors.
+   */
+  private static List<Set<String>> newProjectKinds() {
+    List<Set<String>> kinds = new ArrayList<>();
+    for(int k = 0; k < PROJECT_KINDS; k++ ) {
+      Set<String> ids = new LinkedHashSet<>();
+      for(int i = CONFIGURATORS - 1 - k; ids.size() < CONFIGURATORS_PER_EXECUTION && i > 0; i = i / 2) {
+        ids.add(id(i));
+      }
+      kinds.add(ids);
+    }
+    return kinds;
+  }
+
+  private static IConfigurationElement newConfigurationElement(final Map<String, String> attributes) {
+    return (IConfigurationElement) Proxy.newProxyInstance(ProjectConfigurationElementSorterTest.class.getClassLoader(),
+        new Class<?>[] {IConfigurationElement.class}, new InvocationHandler() {
+          public Object invoke(Object proxy, Method method, Object[] args) {
+            if("getAttribute".equals(method.getName()) && args.length == 1) { //$NON-NLS-1$
+              return attributes.get(args[0]);
+            } else if("toString".equals(method.getName())) { //$NON-NLS-1$
+              return attributes.toString();
+            } else if("hashCode".equals(method.getName())) { //$NON-NLS-1$
+              return System.identityHashCode(proxy);
+            } else if("equals".equals(method.getName())) { //$NON-NLS-1$
+              return proxy == args[0];
+            }
+            throw new UnsupportedOperationException(method.getName());
+          }
+        });
+  }
+}
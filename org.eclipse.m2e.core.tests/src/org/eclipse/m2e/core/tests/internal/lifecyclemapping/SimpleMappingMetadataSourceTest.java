@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.lifecyclemapping;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
+import org.eclipse.m2e.core.internal.lifecyclemapping.SimpleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+@SuppressWarnings("restriction")
+public class SimpleMappingMetadataSourceTest extends TestCase {
+
+  private static final File DEFAULT_METADATA = new File(
+      "../org.eclipse.m2e.lifecyclemapping.defaults/lifecycle-mapping-metadata.xml"); //$NON-NLS-1$
+
+  private static final String GROUP_ID = "org.example"; //$NON-NLS-1$
+
+  private static final String GOAL = "generate"; //$NON-NLS-1$
+
+  private static final int EMBEDDED_SOURCES = 50;
+
+  private static final int PROJECTS = 200;
+
+  public void testIndexIsSharedByAllWrappersOfSource() throws Exception {
+    LifecycleMappingMetadataSource source = newEmbeddedSource(0);
+
+    new SimpleMappingMetadataSource(source);
+    Object index = source.getPluginExecutionIndex();
+    new SimpleMappingMetadataSource(source);
+
+    assertNotNull(index);
+    assertSame(index, source.getPluginExecutionIndex());
+  }
+
+  public void testIndexIsRebuiltWhenSourceChanges() throws Exception {
+    LifecycleMappingMetadataSource source = newEmbeddedSource(0);
+    new SimpleMappingMetadataSource(source);
+    Object index = source.getPluginExecutionIndex();
+
+    String artifactId = "added-plugin"; //$NON-NLS-1$
+    LifecycleMappingFactory.addLifecyclePluginExecution(source, GROUP_ID, artifactId, "[1.0,)", //$NON-NLS-1$
+        new String[] {GOAL}, PluginExecutionAction.ignore);
+    SimpleMappingMetadataSource wrapper = new SimpleMappingMetadataSource(source);
+
+    assertNotSame(index, source.getPluginExecutionIndex());
+    MojoExecutionKey execution = newExecution(GROUP_ID, artifactId, "1.2", GOAL); //$NON-NLS-1$
+    assertEquals(1, wrapper.getPluginExecutionMetadata(execution).size());
+  }
+
+  /**
+   * Compares indexed lookup with plain filter matching for default lifecycle mapping metadata and 50 plugin embedded
+   * sources, wrapped again for every project like during workspace configuration update.
+   */
+  public void testIndexedLookupBenchmark() throws Exception {
+    List<LifecycleMappingMetadataSource> sources = new ArrayList<>();
+    InputStream is = new FileInputStream(DEFAULT_METADATA);
+    try {
+      sources.add(LifecycleMappingFactory.createLifecycleMappingMetadataSource(is));
+    } finally {
+      is.close();
+    }
+    for(int i = 0; i < EMBEDDED_SOURCES; i++ ) {
+      sources.add(newEmbeddedSource(i));
+    }
+    List<MojoExecutionKey> executions = newExecutions(sources.get(0));
+
+    long start = System.nanoTime();
+    List<List<PluginExecutionMetadata>> expected = null;
+    for(int p = 0; p < PROJECTS; p++ ) {
+      expected = matchLinear(sources, executions);
+    }
+    long linear = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    List<List<PluginExecutionMetadata>> actual = null;
+    for(int p = 0; p < PROJECTS; p++ ) {
+      actual = matchIndexed(sources, executions);
+    }
+    long indexed = System.nanoTime() - start;
+
+    assertEquals(expected, actual);
+    System.out.println("Plugin execution metadata lookup, " + PROJECTS + " projects: " //$NON-NLS-1$ //$NON-NLS-2$
+        + linear / 1000000 + "ms linear, " + indexed / 1000000 + "ms indexed"); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static List<List<PluginExecutionMetadata>> matchLinear(List<LifecycleMappingMetadataSource> sources,
+      List<MojoExecutionKey> executions) {
+    List<List<PluginExecutionMetadata>> result = new ArrayList<>();
+    for(MojoExecutionKey execution : executions) {
+      List<PluginExecutionMetadata> mappings = new ArrayList<>();
+      for(LifecycleMappingMetadataSource source : sources) {
+        for(PluginExecutionMetadata mapping : source.getPluginExecutions()) {
+          if(mapping.getFilter().match(execution)) {
+            mappings.add(mapping);
+          }
+        }
+      }
+      result.add(mappings);
+    }
+    return result;
+  }
+
+  private static List<List<PluginExecutionMetadata>> matchIndexed(List<LifecycleMappingMetadataSource> sources,
+      List<MojoExecutionKey> executions) {
+    List<SimpleMappingMetadataSource> wrappers = new ArrayList<>();
+    for(LifecycleMappingMetadataSource source : sources) {
+      wrappers.add(new SimpleMappingMetadataSource(source));
+    }
+    List<List<PluginExecutionMetadata>> result = new ArrayList<>();
+    for(MojoExecutionKey execution : executions) {
+      List<PluginExecutionMetadata> mappings = new ArrayList<>();
+      for(SimpleMappingMetadataSource wrapper : wrappers) {
+        mappings.addAll(wrapper.getPluginExecutionMetadata(execution));
+      }
+      result.add(mappings);
+    }
+    return result;
+  }
+
+  private static LifecycleMappingMetadataSource newEmbeddedSource(int i) {
+    LifecycleMappingMetadataSource source = new LifecycleMappingMetadataSource();
+    String artifactId = "plugin-" + i; //$NON-NLS-1$
+    LifecycleMappingFactory.addLifecyclePluginExecution(source, GROUP_ID, artifactId, "[1.0,2.0)", //$NON-NLS-1$
+        new String[] {GOAL}, PluginExecutionAction.execute);
+    LifecycleMappingFactory.addLifecyclePluginExecution(source, GROUP_ID, artifactId, "[2.0,)", //$NON-NLS-1$
+        new String[] {GOAL, "check"}, PluginExecutionAction.ignore); //$NON-NLS-1$
+    LifecycleMappingFactory.addLifecyclePluginExecution(source, GROUP_ID, artifactId, "[0.1,1.0)", //$NON-NLS-1$
+        new String[] {GOAL}, PluginExecutionAction.error);
+    return source;
+  }
+
+  /**
+   * Returns one execution for every goal of the default metadata plus executions of embedded metadata plugins, 30
+   * executions total.
+   */
+  private static List<MojoExecutionKey> newExecutions(LifecycleMappingMetadataSource defaultSource) {
+    List<MojoExecutionKey> executions = new ArrayList<>();
+    for(PluginExecutionMetadata metadata : defaultSource.getPluginExecutions()) {
+      PluginExecutionFilter filter = metadata.getFilter();
+      for(String goal : filter.getGoals()) {
+        executions.add(newExecution(filter.getGroupId(), filter.getArtifactId(), "3.0", goal)); //$NON-NLS-1$
+      }
+    }
+    for(int i = 0; executions.size() < 30; i++ ) {
+      String artifactId = "plugin-" + (i * 7 % EMBEDDED_SOURCES); //$NON-NLS-1$
+      executions.add(newExecution(GROUP_ID, artifactId, "1." + i, GOAL)); //$NON-NLS-1$
+    }
+    return executions;
+  }
+
+  private static MojoExecutionKey newExecution(String groupId, String artifactId, String version, String goal) {
+    return new MojoExecutionKey(groupId, artifactId, version, goal, null, "default"); //$NON-NLS-1$
+  }
+}
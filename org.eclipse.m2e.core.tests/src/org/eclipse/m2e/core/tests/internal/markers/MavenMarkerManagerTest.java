@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.markers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
+import org.eclipse.m2e.core.internal.markers.MavenProblemInfo;
+import org.eclipse.m2e.core.internal.markers.SourceLocation;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class MavenMarkerManagerTest extends AbstractMavenProjectTestCase {
+
+  private static final String TYPE = IMavenConstants.MARKER_BUILD_PARTICIPANT_ID;
+
+  private static final String ATTR = "test.owner"; //$NON-NLS-1$
+
+  /** set by problems when they are applied to a marker */
+  private static final String GENERATION = "test.generation"; //$NON-NLS-1$
+
+  private IMavenMarkerManager markerManager;
+
+  private IProject project;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    markerManager = MavenPluginActivator.getDefault().getMavenMarkerManager();
+    project = workspace.getRoot().getProject("markers"); //$NON-NLS-1$
+    project.create(monitor);
+    project.open(monitor);
+  }
+
+  public void testUpdateMarkersKeepsAddsAndRemoves() throws Exception {
+    markerManager.updateMarkers(project, TYPE, ATTR, "a", //$NON-NLS-1$
+        Arrays.asList(problem("keep", 1, 1), problem("remove", 2, 1))); //$NON-NLS-1$ //$NON-NLS-2$
+    markerManager.updateMarkers(project, TYPE, ATTR, "b", //$NON-NLS-1$
+        Arrays.asList(problem("other owner", 3, 1))); //$NON-NLS-1$
+    IMarker kept = getMarkers("a").get("keep"); //$NON-NLS-1$ //$NON-NLS-2$
+
+    markerManager.updateMarkers(project, TYPE, ATTR, "a", //$NON-NLS-1$
+        Arrays.asList(problem("keep", 1, 2), problem("add", 4, 2))); //$NON-NLS-1$ //$NON-NLS-2$
+
+    Map<String, IMarker> markers = getMarkers("a"); //$NON-NLS-1$
+    assertEquals(Arrays.asList("add", "keep"), sorted(markers)); //$NON-NLS-1$ //$NON-NLS-2$
+    // existing marker is kept, but problem specific attributes are applied again
+    assertEquals(kept.getId(), markers.get("keep").getId()); //$NON-NLS-1$
+    assertEquals(2, markers.get("keep").getAttribute(GENERATION, 0)); //$NON-NLS-1$
+    assertEquals(2, markers.get("add").getAttribute(GENERATION, 0)); //$NON-NLS-1$
+    assertEquals("a", markers.get("add").getAttribute(ATTR)); //$NON-NLS-1$ //$NON-NLS-2$
+    // markers of other attribute values are not touched
+    assertEquals(Arrays.asList("other owner"), sorted(getMarkers("b"))); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public void testFailingProblemDoesNotAffectOtherMarkers() throws Exception {
+    SourceLocation location = new SourceLocation(1, 0, 0);
+    MavenProblemInfo failing = new MavenProblemInfo("failing", IMarker.SEVERITY_ERROR, location) { //$NON-NLS-1$
+      public void processMarker(IMarker marker) throws CoreException {
+        throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, "expected")); //$NON-NLS-1$
+      }
+    };
+
+    markerManager.updateMarkers(project, TYPE, ATTR, "a", //$NON-NLS-1$
+        Arrays.asList(failing, problem("good", 2, 1))); //$NON-NLS-1$
+
+    Map<String, IMarker> markers = getMarkers("a"); //$NON-NLS-1$
+    assertEquals(Arrays.asList("failing", "good"), sorted(markers)); //$NON-NLS-1$ //$NON-NLS-2$
+    assertEquals(1, markers.get("good").getAttribute(GENERATION, 0)); //$NON-NLS-1$
+  }
+
+  private Map<String, IMarker> getMarkers(String owner) throws CoreException {
+    Map<String, IMarker> markers = new HashMap<String, IMarker>();
+    for(IMarker marker : project.findMarkers(TYPE, false, IResource.DEPTH_ZERO)) {
+      if(owner.equals(marker.getAttribute(ATTR))) {
+        markers.put(marker.getAttribute(IMarker.MESSAGE, null), marker);
+      }
+    }
+    return markers;
+  }
+
+  private static List<String> sorted(Map<String, IMarker> markers) {
+    List<String> messages = new ArrayList<String>(markers.keySet());
+    Collections.sort(messages);
+    return messages;
+  }
+
+  private static MavenProblemInfo problem(String message, int line, final int generation) {
+    return new MavenProblemInfo(message, IMarker.SEVERITY_WARNING, new SourceLocation(line, 0, 0)) {
+      public void processMarker(IMarker marker) throws CoreException {
+        super.processMarker(marker);
+        marker.setAttribute(GENERATION, generation);
+      }
+    };
+  }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.m2e.core.tests.internal.project;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.plugin.ExtensionRealmCache;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectRealmCache;
+
+import org.eclipse.m2e.core.internal.project.EclipseExtensionRealmCache;
+import org.eclipse.m2e.core.internal.project.EclipseProjectRealmCache;
+
+
+@SuppressWarnings("restriction")
+public class EclipseProjectRealmCacheTest extends TestCase {
+
+  private ClassWorld world;
+
+  private File jar;
+
+  protected void setUp() throws Exception {
+    super.setUp();
+    world = new ClassWorld();
+    jar = File.createTempFile("extension", ".jar"); //$NON-NLS-1$ //$NON-NLS-2$
+    write(jar, "1"); //$NON-NLS-1$
+  }
+
+  protected void tearDown() throws Exception {
+    jar.delete();
+    super.tearDown();
+  }
+
+  public void testSameExtensionJarsShareKey() throws Exception {
+    EclipseProjectRealmCache cache = new EclipseProjectRealmCache(new EclipseExtensionRealmCache());
+
+    ProjectRealmCache.Key key1 = cache.createKey(Collections.singletonList(newRealm("ext1"))); //$NON-NLS-1$
+    ProjectRealmCache.Key key2 = cache.createKey(Collections.singletonList(newRealm("ext2"))); //$NON-NLS-1$
+
+    assertEquals(key1, key2);
+    assertEquals(key1.hashCode(), key2.hashCode());
+  }
+
+  public void testRebuiltExtensionJarChangesKey() throws Exception {
+    EclipseProjectRealmCache cache = new EclipseProjectRealmCache(new EclipseExtensionRealmCache());
+    ProjectRealmCache.Key key1 = cache.createKey(Collections.singletonList(newRealm("ext1"))); //$NON-NLS-1$
+
+    write(jar, "22"); //$NON-NLS-1$
+    jar.setLastModified(jar.lastModified() + 10000L);
+    ProjectRealmCache.Key key2 = cache.createKey(Collections.singletonList(newRealm("ext2"))); //$NON-NLS-1$
+
+    assertFalse(key1.equals(key2));
+  }
+
+  public void testSharedRealmKeepsImportedExtensionRealm() throws Exception {
+    EclipseExtensionRealmCache extensionCache = new EclipseExtensionRealmCache();
+    EclipseProjectRealmCache projectCache = new EclipseProjectRealmCache(extensionCache);
+
+    MavenProject projectA = newProject("a"); //$NON-NLS-1$
+    MavenProject projectB = newProject("b"); //$NON-NLS-1$
+
+    // project a creates the extension realm and the project realm that imports from it
+    ClassRealm extensionRealm = newRealm("extension"); //$NON-NLS-1$
+    List<Artifact> artifacts = Collections.singletonList(newArtifact());
+    ExtensionRealmCache.Key extensionKey = extensionCache.createKey(artifacts);
+    ExtensionRealmCache.CacheRecord extensionRecord = extensionCache.put(extensionKey, extensionRealm, null,
+        artifacts);
+    extensionCache.register(projectA, extensionKey, extensionRecord);
+
+    ClassRealm projectRealm = world.newRealm("project"); //$NON-NLS-1$
+    projectRealm.importFrom(extensionRealm, "org.example"); //$NON-NLS-1$
+    ProjectRealmCache.Key projectKey = projectCache.createKey(Collections.singletonList(extensionRealm));
+    ProjectRealmCache.CacheRecord projectRecord = projectCache.put(projectKey, projectRealm, null);
+    projectCache.register(projectA, projectKey, projectRecord);
+
+    // project b shares the project realm
+    assertSame(projectRecord, projectCache.get(projectKey));
+    projectCache.register(projectB, projectKey, projectRecord);
+
+    projectCache.removeProject(projectA.getFile(), null, false);
+    extensionCache.removeProject(projectA.getFile(), null, false);
+    assertSame(extensionRealm, world.getClassRealm("extension")); //$NON-NLS-1$
+    assertSame(projectRecord, projectCache.get(projectKey));
+
+    projectCache.removeProject(projectB.getFile(), null, false);
+    extensionCache.removeProject(projectB.getFile(), null, false);
+    assertNull(world.getClassRealm("extension")); //$NON-NLS-1$
+    assertNull(world.getClassRealm("project")); //$NON-NLS-1$
+  }
+
+  private ClassRealm newRealm(String id) throws Exception {
+    ClassRealm realm = world.newRealm(id);
+    realm.addURL(jar.toURI().toURL());
+    return realm;
+  }
+
+  private Artifact newArtifact() {
+    Artifact artifact = new DefaultArtifact("org.example", "extension", "1.0", null, "jar", null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+        new DefaultArtifactHandler("jar")); //$NON-NLS-1$
+    artifact.setFile(jar);
+    return artifact;
+  }
+
+  private static MavenProject newProject(String name) {
+    MavenProject project = new MavenProject();
+    project.setFile(new File(name, "pom.xml").getAbsoluteFile()); //$NON-NLS-1$
+    return project;
+  }
+
+  private static void write(File file, String content) throws IOException {
+    try (FileOutputStream os = new FileOutputStream(file)) {
+      os.write(content.getBytes("UTF-8")); //$NON-NLS-1$
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.project;
+
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.preferences.MavenConfigurationImpl;
+import org.eclipse.m2e.core.internal.project.ProjectConfigurationManager;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.core.tests.internal.project.ThreadSafeTestConfigurator.Configuration;
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+
+
+@SuppressWarnings("restriction")
+public class ProjectConfigurationManagerTest extends AbstractMavenProjectTestCase {
+
+  private static final String P1 = "parallel-p1"; //$NON-NLS-1$
+
+  private static final String P2 = "parallel-p2"; //$NON-NLS-1$
+
+  protected void tearDown() throws Exception {
+    try {
+      ThreadSafeTestConfigurator.reset(null);
+      ((MavenConfigurationImpl) mavenConfiguration).setConfigureProjectsInParallel(false);
+    } finally {
+      super.tearDown();
+    }
+  }
+
+  public void testThreadSafeConfiguratorsRunInParallel() throws Exception {
+    IProject[] projects = importParallelProjects();
+    ((MavenConfigurationImpl) mavenConfiguration).setConfigureProjectsInParallel(true);
+    ThreadSafeTestConfigurator.reset(new CyclicBarrier(2));
+
+    Map<String, IStatus> status = updateConfiguration(projects);
+
+    assertTrue(String.valueOf(status.get(P1)), status.get(P1).isOK());
+    assertTrue(String.valueOf(status.get(P2)), status.get(P2).isOK());
+    Configuration c1 = getConfiguration(P1);
+    Configuration c2 = getConfiguration(P2);
+
+    // both configurations passed the barrier, i.e. were executing at the same time
+    assertNotSame(Thread.currentThread(), c1.thread);
+    assertNotSame(Thread.currentThread(), c2.thread);
+    assertNotSame(c1.thread, c2.thread);
+
+    // each worker has its own session, nested executions can switch to the configured project
+    assertNotSame(c1.session, c2.session);
+    assertConfiguredProject(projects[0], c1);
+    assertConfiguredProject(projects[1], c2);
+  }
+
+  public void testConfiguratorsRunSeriallyByDefault() throws Exception {
+    IProject[] projects = importParallelProjects();
+    ThreadSafeTestConfigurator.reset(null);
+
+    Map<String, IStatus> status = updateConfiguration(projects);
+
+    assertTrue(String.valueOf(status.get(P1)), status.get(P1).isOK());
+    assertTrue(String.valueOf(status.get(P2)), status.get(P2).isOK());
+    Configuration c1 = getConfiguration(P1);
+    Configuration c2 = getConfiguration(P2);
+    assertSame(Thread.currentThread(), c1.thread);
+    assertSame(Thread.currentThread(), c2.thread);
+    assertConfiguredProject(projects[0], c1);
+    assertConfiguredProject(projects[1], c2);
+  }
+
+  private IProject[] importParallelProjects() throws Exception {
+    IProject[] projects = importProjects("projects/configurator/parallel", //$NON-NLS-1$
+        new String[] {"p1/pom.xml", "p2/pom.xml"}, new ResolverConfiguration()); //$NON-NLS-1$ //$NON-NLS-2$
+    waitForJobsToComplete();
+    assertEquals(P1, projects[0].getName());
+    assertEquals(P2, projects[1].getName());
+    return projects;
+  }
+
+  private Map<String, IStatus> updateConfiguration(IProject[] projects) {
+    ProjectConfigurationManager manager = (ProjectConfigurationManager) MavenPlugin.getProjectConfigurationManager();
+    return manager.updateProjectConfiguration(new MavenUpdateRequest(projects, false, false), true, false, monitor);
+  }
+
+  private static Configuration getConfiguration(String projectName) {
+    Configuration configuration = ThreadSafeTestConfigurator.configurations.get(projectName);
+    assertNotNull(projectName, configuration);
+    if(configuration.failure != null) {
+      throw new AssertionError(configuration.failure);
+    }
+    return configuration;
+  }
+
+  private static void assertConfiguredProject(IProject project, Configuration configuration) {
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().getProject(project);
+    assertNotNull(configuration.session);
+    assertNotNull(configuration.executedProject);
+    assertEquals(facade.getMavenProject().getId(), configuration.executedProject.getId());
+  }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.tests.internal.project;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.embedder.ICallable;
+import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.project.configurator.AbstractProjectConfigurator;
+import org.eclipse.m2e.core.project.configurator.ProjectConfigurationRequest;
+
+
+/**
+ * Thread safe project configurator that records how projects were configured.
+ */
+@SuppressWarnings("restriction")
+public class ThreadSafeTestConfigurator extends AbstractProjectConfigurator {
+
+  static class Configuration {
+    Thread thread;
+
+    MavenSession session;
+
+    /** current project of a nested maven execution for the configured project */
+    MavenProject executedProject;
+
+    Throwable failure;
+  }
+
+  /** configurations by project name */
+  static final Map<String, Configuration> configurations = new ConcurrentHashMap<String, Configuration>();
+
+  /** if set, configurations wait for each other */
+  static volatile CyclicBarrier barrier;
+
+  static void reset(CyclicBarrier barrier) {
+    configurations.clear();
+    ThreadSafeTestConfigurator.barrier = barrier;
+  }
+
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  public void configure(ProjectConfigurationRequest request, IProgressMonitor monitor) {
+    Configuration configuration = new Configuration();
+    configuration.thread = Thread.currentThread();
+    configuration.session = MavenExecutionContext.getThreadContext().getSession();
+    try {
+      configuration.executedProject = MavenPlugin.getMaven().createExecutionContext()
+          .execute(request.getMavenProject(), new ICallable<MavenProject>() {
+            public MavenProject call(IMavenExecutionContext context, IProgressMonitor monitor) {
+              return context.getSession().getCurrentProject();
+            }
+          }, monitor);
+      CyclicBarrier barrier = ThreadSafeTestConfigurator.barrier;
+      if(barrier != null) {
+        barrier.await(30, TimeUnit.SECONDS);
+      }
+    } catch(Exception e) {
+      configuration.failure = e;
+    }
+    configurations.put(request.getProject().getName(), configuration);
+  }
+}
@@ -915,20 +915,30 @@ public class Messages extends NLS {
 
   public static String BuildDebugView_columnBuildNumber;
 
+  public static String BuildDebugView_columnTime;
+
   public static String BuildDebugView_nodeExecutions;
 
   public static String BuildDebugView_nodeDelta;
 
+  public static String BuildDebugView_nodeBuildCache;
+
+  public static String BuildDebugView_nodeSlowest;
+
   public static String BuildDebugView_actionSuspend;
 
   public static String BuildDebugView_actionClear;
 
   public static String BuildDebugView_actionCollapseAll;
 
+  public static String BuildDebugView_actionExport;
+
   public static String BuildDebugView_errorTitle;
 
   public static String BuildDebugView_errorDescription;
 
+  public static String BuildDebugView_errorExport;
+
   public static String UpdateMavenProjectsDialog_btnRefreshFromLocal_text;
 
   public static String AssignWorkingSetDialog_btnFilterAssignedProjects_text;
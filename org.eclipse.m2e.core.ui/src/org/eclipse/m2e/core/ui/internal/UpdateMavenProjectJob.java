@@ -64,7 +64,10 @@ public class UpdateMavenProjectJob extends WorkspaceJob {
     this.cleanProjects = cleanProjects;
     this.refreshFromLocal = refreshFromLocal;
 
-    setRule(MavenPlugin.getProjectConfigurationManager().getRule());
+    if(!updateConfiguration || !MavenPlugin.getMavenConfiguration().isConfigureProjectsInParallel()) {
+      setRule(MavenPlugin.getProjectConfigurationManager().getRule());
+    }
+    // otherwise the update acquires workspace and project scoped rules itself
   }
 
   public IStatus runInWorkspace(IProgressMonitor monitor) {
@@ -61,6 +61,7 @@ import org.eclipse.ui.PlatformUI;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.InputSource;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.project.MavenProject;
 
@@ -444,6 +445,8 @@ class LifecycleMappingsViewer {
             sources.add(getSourceLabel((Artifact) source, detailed));
           } else if(source instanceof MavenProject) {
             sources.add(getSourceLabel((MavenProject) source, detailed));
+          } else if(source instanceof InputSource) {
+            sources.add(getSourceLabel((InputSource) source, detailed));
           } else if(source instanceof Bundle) {
             sources.add(getSourceLabel((Bundle) source, detailed));
           } else {
@@ -482,6 +485,18 @@ class LifecycleMappingsViewer {
     return sb.toString();
   }
 
+  private String getSourceLabel(InputSource pom, boolean detailed) {
+    StringBuilder sb = new StringBuilder("pom"); //$NON-NLS-1$
+    if(detailed) {
+      sb.append('(').append(pom.getModelId());
+      if(pom.getLocation() != null) {
+        sb.append(" @ ").append(pom.getLocation()); //$NON-NLS-1$
+      }
+      sb.append(')');
+    }
+    return sb.toString();
+  }
+
   private String getSourceLabel(Artifact plugin, boolean detailed) {
     StringBuilder sb = new StringBuilder("maven-plugin"); //$NON-NLS-1$
     if(detailed) {
@@ -12,6 +12,11 @@
 package org.eclipse.m2e.core.ui.internal.views.build;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -19,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -44,6 +50,7 @@ import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Tree;
 import org.eclipse.swt.widgets.TreeColumn;
 import org.eclipse.ui.IActionBars;
@@ -52,10 +59,14 @@ import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.part.ViewPart;
 
 import org.eclipse.m2e.core.internal.builder.BuildDebugHook;
+import org.eclipse.m2e.core.internal.builder.BuildParticipantProfile;
+import org.eclipse.m2e.core.internal.builder.BuildProfiler;
 import org.eclipse.m2e.core.internal.builder.MavenBuilder;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.configurator.AbstractBuildParticipant;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionBuildParticipant;
 import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.eclipse.m2e.core.ui.internal.M2EUIPluginActivator;
 import org.eclipse.m2e.core.ui.internal.MavenImages;
 import org.eclipse.m2e.core.ui.internal.Messages;
 
@@ -96,6 +107,10 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
 
   /*package*/volatile boolean suspended = true;
 
+  /*package*/final BuildProfiler profiler = MavenBuilder.getBuildProfiler();
+
+  private static final int SLOWEST_EXECUTIONS = 10;
+
   public void createPartControl(Composite parent) {
     viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
     Tree tree = viewer.getTree();
@@ -111,6 +126,11 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
     TreeColumn trclmnBuildCount = treeViewerColumn_1.getColumn();
     trclmnBuildCount.setWidth(100);
     trclmnBuildCount.setText(Messages.BuildDebugView_columnBuildNumber);
+
+    TreeViewerColumn treeViewerColumn_2 = new TreeViewerColumn(viewer, SWT.NONE);
+    TreeColumn trclmnTime = treeViewerColumn_2.getColumn();
+    trclmnTime.setWidth(100);
+    trclmnTime.setText(Messages.BuildDebugView_columnTime);
     viewer.setLabelProvider(new ITableLabelProvider() {
 
       public void removeListener(ILabelProviderListener listener) {
@@ -143,7 +163,18 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
           case 0:
             return element.getName();
           case 1:
+            if(element instanceof ExecutionSummaryNode) {
+              return null;
+            }
             return Integer.toString(element.getBuildCount());
+          case 2:
+            if(element instanceof MojoExecutionNode) {
+              return Long.toString(((MojoExecutionNode) element).getTime());
+            }
+            if(element instanceof ExecutionSummaryNode) {
+              return Long.toString(((ExecutionSummaryNode) element).getTime());
+            }
+            return null;
           default:
             // fall through  
         }
@@ -184,7 +215,16 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
             sorted = new ArrayList<ProjectNode>(projects.values());
           }
           Collections.sort(sorted, NODE_COMPARATOR);
-          return sorted.toArray();
+          List<Node> result = new ArrayList<Node>();
+          List<ExecutionSummaryNode> slowest = new ArrayList<ExecutionSummaryNode>();
+          for(BuildProfiler.ExecutionSummary summary : profiler.getSlowestExecutions(SLOWEST_EXECUTIONS)) {
+            slowest.add(new ExecutionSummaryNode(summary));
+          }
+          if(!slowest.isEmpty()) {
+            result.add(new CollectionNode<ExecutionSummaryNode>(Messages.BuildDebugView_nodeSlowest, slowest));
+          }
+          result.addAll(sorted);
+          return result.toArray();
         }
         return new Object[0];
       }
@@ -233,6 +273,7 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
         synchronized(projectsLock) {
           projects.clear();
         }
+        profiler.clear();
         refreshJob.schedule();
       }
     };
@@ -241,8 +282,14 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
         viewer.collapseAll();
       }
     };
+    Action exportAction = new Action(Messages.BuildDebugView_actionExport) {
+      public void run() {
+        exportProfile();
+      }
+    };
     toolBar.add(collapseAll);
     toolBar.add(clearAction);
+    toolBar.add(exportAction);
     toolBar.add(suspendAction);
     actionBars.updateActionBars();
   }
@@ -250,6 +297,28 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
   public void setFocus() {
   }
 
+  /*package*/void exportProfile() {
+    FileDialog dialog = new FileDialog(getSite().getShell(), SWT.SAVE);
+    dialog.setFilterExtensions(new String[] {"*.json", "*.csv"}); //$NON-NLS-1$ //$NON-NLS-2$
+    dialog.setOverwrite(true);
+    String path = dialog.open();
+    if(path == null) {
+      return;
+    }
+    try (Writer writer = new OutputStreamWriter(Files.newOutputStream(new File(path).toPath()),
+        StandardCharsets.UTF_8)) {
+      if(path.endsWith(".csv")) { //$NON-NLS-1$
+        profiler.writeCsv(writer);
+      } else {
+        profiler.writeJson(writer);
+      }
+    } catch(IOException ex) {
+      ErrorDialog.openError(getSite().getShell(), Messages.BuildDebugView_errorTitle,
+          Messages.BuildDebugView_errorExport, new Status(IStatus.ERROR, M2EUIPluginActivator.PLUGIN_ID,
+              ex.getMessage(), ex));
+    }
+  }
+
   public void init(IViewSite site) throws PartInitException {
     super.init(site);
     MavenBuilder.addDebugHook(this);
@@ -307,7 +376,16 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
   public void buildParticipant(IMavenProjectFacade projectFacade, MojoExecutionKey mojoExecutionKey,
       AbstractBuildParticipant participant, Set<File> files, IProgressMonitor monitor) {
 
-    if(suspended || files == null || files.isEmpty()) {
+    if(suspended) {
+      return;
+    }
+
+    Boolean buildCacheHit = null;
+    if(participant instanceof MojoExecutionBuildParticipant) {
+      buildCacheHit = ((MojoExecutionBuildParticipant) participant).getBuildCacheHit();
+    }
+
+    if(buildCacheHit == null && (files == null || files.isEmpty())) {
       return;
     }
 
@@ -318,8 +396,30 @@ public class BuildDebugView extends ViewPart implements BuildDebugHook {
     // ... although they are unlikely to use BuildContext so we don't know what resources they modify
     final MojoExecutionNode executionNode = projectNode.getMojoExecutionNode(mojoExecutionKey);
     executionNode.setBuildCount(buildCount);
+    if(buildCacheHit != null) {
+      executionNode.addBuildCacheResult(buildCacheHit.booleanValue());
+    }
+    if(files == null) {
+      return;
+    }
     for(File file : files) {
       executionNode.addResource(projectFacade.getProjectRelativePath(file.getAbsolutePath())).setBuildCount(buildCount);
     }
   }
+
+  @Override
+  public void buildParticipantProfile(IMavenProjectFacade projectFacade, AbstractBuildParticipant participant,
+      BuildParticipantProfile profile) {
+    if(suspended) {
+      return;
+    }
+
+    profiler.add(profile);
+
+    ProjectNode projectNode = getProjectNode(projectFacade);
+    MojoExecutionNode executionNode = projectNode.getMojoExecutionNode(profile.getMojoExecutionKey());
+    executionNode.setBuildCount(projectNode.getBuildCount());
+    executionNode.addTime(TimeUnit.NANOSECONDS.toMillis(profile.getWallTime()));
+    refreshJob.schedule(1000L);
+  }
 }
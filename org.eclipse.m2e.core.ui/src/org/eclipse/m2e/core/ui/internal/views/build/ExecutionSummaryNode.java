@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.ui.internal.views.build;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.m2e.core.internal.builder.BuildProfiler.ExecutionSummary;
+
+
+@SuppressWarnings("restriction")
+class ExecutionSummaryNode implements Node {
+
+  private final ExecutionSummary summary;
+
+  public ExecutionSummaryNode(ExecutionSummary summary) {
+    this.summary = summary;
+  }
+
+  public String getName() {
+    return summary.getProject() + " " + summary.getMojoExecutionKey() + " x" + summary.getExecutions(); //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  public int getBuildCount() {
+    return 0;
+  }
+
+  public long getTime() {
+    return TimeUnit.NANOSECONDS.toMillis(summary.getTotalWallTime());
+  }
+}
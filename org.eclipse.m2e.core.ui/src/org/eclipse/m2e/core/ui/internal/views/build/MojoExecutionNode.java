@@ -11,7 +11,10 @@
 
 package org.eclipse.m2e.core.ui.internal.views.build;
 
+import org.eclipse.osgi.util.NLS;
+
 import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.eclipse.m2e.core.ui.internal.Messages;
 
 
 class MojoExecutionNode extends ContainerNode {
@@ -20,11 +23,26 @@ class MojoExecutionNode extends ContainerNode {
 
   private int buildCount;
 
+  private int buildCacheHits;
+
+  private int buildCacheMisses;
+
+  private long time;
+
   public MojoExecutionNode(MojoExecutionKey mojoExecutionKey) {
     super(mojoExecutionKey.toString());
     this.mojoExecutionKey = mojoExecutionKey;
   }
 
+  @Override
+  public synchronized String getName() {
+    if(buildCacheHits == 0 && buildCacheMisses == 0) {
+      return super.getName();
+    }
+    return NLS.bind(Messages.BuildDebugView_nodeBuildCache,
+        new Object[] {super.getName(), buildCacheHits, buildCacheMisses});
+  }
+
   public MojoExecutionKey getMojoExecutionKey() {
     return mojoExecutionKey;
   }
@@ -36,4 +54,23 @@ class MojoExecutionNode extends ContainerNode {
   public void setBuildCount(int buildCount) {
     this.buildCount = buildCount;
   }
+
+  public synchronized void addBuildCacheResult(boolean hit) {
+    if(hit) {
+      buildCacheHits++ ;
+    } else {
+      buildCacheMisses++ ;
+    }
+  }
+
+  /**
+   * Total build participant execution time, in milliseconds.
+   */
+  public synchronized long getTime() {
+    return time;
+  }
+
+  public synchronized void addTime(long time) {
+    this.time += time;
+  }
 }
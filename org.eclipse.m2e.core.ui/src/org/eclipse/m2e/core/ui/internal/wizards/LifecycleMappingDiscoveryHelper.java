@@ -11,20 +11,32 @@
 
 package org.eclipse.m2e.core.ui.internal.wizards;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.WorkerThreadFactory;
 import org.eclipse.m2e.core.internal.lifecyclemapping.discovery.ILifecycleMappingRequirement;
 import org.eclipse.m2e.core.internal.lifecyclemapping.discovery.IMavenDiscovery;
 import org.eclipse.m2e.core.internal.lifecyclemapping.discovery.IMavenDiscoveryProposal;
@@ -48,6 +60,11 @@ import org.eclipse.m2e.core.ui.internal.Messages;
 @SuppressWarnings("restriction")
 public class LifecycleMappingDiscoveryHelper {
 
+  /**
+   * Shared pool of worker threads that collect project requirements, created on first use. Idle threads are terminated.
+   */
+  private static ThreadPoolExecutor requirementsExecutor;
+
   private LifecycleMappingDiscoveryHelper() {
     //Helper class
   }
@@ -68,28 +85,125 @@ public class LifecycleMappingDiscoveryHelper {
   public static LifecycleMappingDiscoveryRequest createLifecycleMappingDiscoveryRequest(Collection<IProject> projects,
       IProgressMonitor monitor) throws CoreException {
     LifecycleMappingDiscoveryRequest request = new LifecycleMappingDiscoveryRequest();
-    if(projects != null) {
-      for(IProject p : projects) {
-        if(!p.isAccessible() || !p.hasNature(IMavenConstants.NATURE_ID)) {
-          continue;
-        }
-        IMarker[] lifecycleMappingMarkers = getLifecycleMappingMarkers(p);
-        if(lifecycleMappingMarkers != null && lifecycleMappingMarkers.length > 0) {
-          IMavenProjectFacade facade = getFacade(p, monitor);
-          if(facade != null) {
-            for(IMarker m : lifecycleMappingMarkers) {
-              ILifecycleMappingRequirement req = toLifecycleMappingRequirement(m, facade.getPackaging());
-              if(req != null) {
-                request.addProject(facade, req);
-              }
+    if(projects == null || projects.isEmpty()) {
+      return request;
+    }
+    if(monitor == null) {
+      monitor = new NullProgressMonitor();
+    }
+    List<IProject> mavenProjects = new ArrayList<IProject>();
+    for(IProject p : projects) {
+      if(p.isAccessible() && p.hasNature(IMavenConstants.NATURE_ID)) {
+        mavenProjects.add(p);
+      }
+    }
+    if(mavenProjects.size() <= 1) {
+      for(IProject p : mavenProjects) {
+        addProject(request, collectRequirements(p, monitor));
+      }
+      return request;
+    }
+
+    // progress monitors are not thread safe, only propagate cancellation to worker threads
+    final IProgressMonitor callerMonitor = monitor;
+    final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+      @Override
+      public boolean isCanceled() {
+        return callerMonitor.isCanceled();
+      }
+    };
+
+    // reading project markers and facades is independent for each project, collect them in parallel and add to the
+    // request in the original project order
+    ExecutorService executor = MavenExecutionContext.wrap(getRequirementsExecutor());
+    List<Future<ProjectRequirements>> futures = new ArrayList<Future<ProjectRequirements>>();
+    try {
+      for(final IProject p : mavenProjects) {
+        futures.add(executor.submit(new Callable<ProjectRequirements>() {
+          public ProjectRequirements call() throws CoreException {
+            if(workerMonitor.isCanceled()) {
+              return null;
             }
+            return collectRequirements(p, workerMonitor);
           }
+        }));
+      }
+      for(int i = 0; i < futures.size(); i++ ) {
+        try {
+          addProject(request, futures.get(i).get());
+        } catch(InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new CoreException(new Status(IStatus.ERROR, M2EUIPluginActivator.PLUGIN_ID, e.getMessage(), e));
+        } catch(ExecutionException e) {
+          if(e.getCause() instanceof CoreException) {
+            throw (CoreException) e.getCause();
+          }
+          throw new CoreException(new Status(IStatus.ERROR, M2EUIPluginActivator.PLUGIN_ID,
+              e.getCause().getMessage(), e.getCause()));
         }
       }
+    } finally {
+      // the pool is shared, only cancel remaining tasks of this request
+      for(Future<ProjectRequirements> future : futures) {
+        future.cancel(true);
+      }
     }
     return request;
   }
 
+  private static synchronized ThreadPoolExecutor getRequirementsExecutor() {
+    if(requirementsExecutor == null) {
+      int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<Runnable>(),
+          new WorkerThreadFactory("M2E lifecycle mapping discovery")); //$NON-NLS-1$
+      executor.allowCoreThreadTimeOut(true);
+      requirementsExecutor = executor;
+    }
+    return requirementsExecutor;
+  }
+
+  /**
+   * Facade and unsatisfied lifecycle mapping requirements of a project.
+   */
+  private static class ProjectRequirements {
+    final IMavenProjectFacade facade;
+
+    final List<ILifecycleMappingRequirement> requirements;
+
+    ProjectRequirements(IMavenProjectFacade facade, List<ILifecycleMappingRequirement> requirements) {
+      this.facade = facade;
+      this.requirements = requirements;
+    }
+  }
+
+  private static ProjectRequirements collectRequirements(IProject p, IProgressMonitor monitor) throws CoreException {
+    IMarker[] lifecycleMappingMarkers = getLifecycleMappingMarkers(p);
+    if(lifecycleMappingMarkers == null || lifecycleMappingMarkers.length == 0) {
+      return null;
+    }
+    IMavenProjectFacade facade = getFacade(p, monitor);
+    if(facade == null) {
+      return null;
+    }
+    List<ILifecycleMappingRequirement> requirements = new ArrayList<ILifecycleMappingRequirement>();
+    for(IMarker m : lifecycleMappingMarkers) {
+      ILifecycleMappingRequirement req = toLifecycleMappingRequirement(m, facade.getPackaging());
+      if(req != null) {
+        requirements.add(req);
+      }
+    }
+    return new ProjectRequirements(facade, requirements);
+  }
+
+  private static void addProject(LifecycleMappingDiscoveryRequest request, ProjectRequirements projectRequirements) {
+    if(projectRequirements != null) {
+      for(ILifecycleMappingRequirement req : projectRequirements.requirements) {
+        request.addProject(projectRequirements.facade, req);
+      }
+    }
+  }
+
   private static ILifecycleMappingRequirement toLifecycleMappingRequirement(IMarker marker, String packagingType) {
     String type = marker.getAttribute(IMavenConstants.MARKER_ATTR_EDITOR_HINT, null);
     if(type == null) {
@@ -184,6 +184,9 @@ public interface IMaven {
       Class<T> asType) throws CoreException;
 
   /**
+   * Evaluated parameter values of immutable types, e.g. String, File or primitive wrappers, are cached until the
+   * project instance is replaced or a mojo is executed for it.
+   *
    * @since 1.4
    */
   public <T> T getMojoParameterValue(MavenProject project, MojoExecution mojoExecution, String parameter,
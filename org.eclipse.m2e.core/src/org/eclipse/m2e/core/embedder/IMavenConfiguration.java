@@ -125,4 +125,14 @@ public interface IMavenConfiguration {
    */
   public boolean buildWithNullSchedulingRule();
 
+  /**
+   * @experimental Projects with thread safe project configurators are configured concurrently, each under a project
+   *               scoped scheduling rule. Project configuration update requests do not hold the workspace scheduling
+   *               rule in this mode.
+   * @return whether to update configuration of multiple projects in parallel.
+   * @see org.eclipse.m2e.core.project.configurator.AbstractProjectConfigurator#isThreadSafe()
+   * @since 1.10
+   */
+  public boolean isConfigureProjectsInParallel();
+
 }
@@ -32,8 +32,15 @@ import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IExtension;
+import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IRegistryEventListener;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.codehaus.plexus.ContainerConfiguration;
 import org.codehaus.plexus.DefaultContainerConfiguration;
@@ -63,7 +70,9 @@ import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
 import org.eclipse.m2e.core.embedder.MavenModelManager;
 import org.eclipse.m2e.core.internal.archetype.ArchetypeCatalogFactory;
 import org.eclipse.m2e.core.internal.archetype.ArchetypeManager;
+import org.eclipse.m2e.core.internal.builder.BuildCycleListener;
 import org.eclipse.m2e.core.internal.embedder.MavenImpl;
+import org.eclipse.m2e.core.internal.embedder.WorkerThreadFactory;
 import org.eclipse.m2e.core.internal.index.filter.ArtifactFilterManager;
 import org.eclipse.m2e.core.internal.index.nexus.IndexesExtensionReader;
 import org.eclipse.m2e.core.internal.index.nexus.IndexingTransferListener;
@@ -119,6 +128,8 @@ public class MavenPluginActivator extends Plugin {
 
   private ProjectRegistryRefreshJob mavenBackgroundJob;
 
+  private BuildCycleListener buildCycleListener;
+
   private ArchetypeManager archetypeManager;
 
   private ProjectRegistryManager managerImpl;
@@ -142,6 +153,25 @@ public class MavenPluginActivator extends Plugin {
     }
   };
 
+  private IRegistryEventListener configuratorRegistryListener = new IRegistryEventListener() {
+
+    public void added(IExtension[] extensions) {
+      LifecycleMappingFactory.resetProjectConfiguratorExtensions();
+    }
+
+    public void removed(IExtension[] extensions) {
+      LifecycleMappingFactory.resetProjectConfiguratorExtensions();
+    }
+
+    public void added(IExtensionPoint[] extensionPoints) {
+      LifecycleMappingFactory.resetProjectConfiguratorExtensions();
+    }
+
+    public void removed(IExtensionPoint[] extensionPoints) {
+      LifecycleMappingFactory.resetProjectConfiguratorExtensions();
+    }
+  };
+
   private ISaveParticipant saveParticipant = new ISaveParticipant() {
 
     @Override
@@ -149,6 +179,7 @@ public class MavenPluginActivator extends Plugin {
       if(managerImpl != null) {
         managerImpl.writeWorkspaceState();
       }
+      LifecycleMappingFactory.writeMetadataCache();
     }
 
     @Override
@@ -208,6 +239,9 @@ public class MavenPluginActivator extends Plugin {
 
     this.mavenConfiguration = new MavenConfigurationImpl();
 
+    // must happen before any Maven session is created
+    WorkerThreadFactory.start();
+
     // this is suboptimal. ideally, we want single "root" container that exposes maven core components
     // and two "child" containers that expose indexer and archetyper. root container should also
     // be used by MavenImpl. this is not currently possible due to sisu limitations, so we create
@@ -245,6 +279,9 @@ public class MavenPluginActivator extends Plugin {
     workspace.addResourceChangeListener(mavenBackgroundJob, IResourceChangeEvent.POST_CHANGE
         | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
 
+    this.buildCycleListener = new BuildCycleListener(maven);
+    workspace.addResourceChangeListener(buildCycleListener, BuildCycleListener.EVENT_MASK);
+
     this.projectManager = new MavenProjectManager(managerImpl, mavenBackgroundJob, stateLocationDir);
     this.projectManager.addMavenProjectChangedListener(new WorkspaceStateWriter(projectManager));
     if(updateProjectsOnStartup || managerImpl.getProjects().length == 0) {
@@ -273,6 +310,17 @@ public class MavenPluginActivator extends Plugin {
     this.repositoryRegistry.addRepositoryIndexer(indexManager);
     this.repositoryRegistry.addRepositoryDiscoverer(new IndexesExtensionReader(indexManager));
     context.addBundleListener(bundleListener);
+    Platform.getExtensionRegistry().addListener(configuratorRegistryListener,
+        LifecycleMappingFactory.EXTENSION_PROJECT_CONFIGURATORS);
+
+    Job metadataLoadJob = new Job(Messages.LifecycleMappingMetadataLoadJob_title) {
+      protected IStatus run(IProgressMonitor monitor) {
+        LifecycleMappingFactory.loadMetadataSources();
+        return Status.OK_STATUS;
+      }
+    };
+    metadataLoadJob.setSystem(true);
+    metadataLoadJob.schedule();
 
     //
     this.artifactFilterManager = new ArtifactFilterManager();
@@ -326,6 +374,7 @@ public class MavenPluginActivator extends Plugin {
     super.stop(context);
 
     context.removeBundleListener(bundleListener);
+    Platform.getExtensionRegistry().removeListener(configuratorRegistryListener);
 
     this.mavenBackgroundJob.cancel();
     try {
@@ -337,6 +386,8 @@ public class MavenPluginActivator extends Plugin {
     workspace.removeSaveParticipant(IMavenConstants.PLUGIN_ID);
     workspace.removeResourceChangeListener(this.mavenBackgroundJob);
     this.mavenBackgroundJob = null;
+    workspace.removeResourceChangeListener(this.buildCycleListener);
+    this.buildCycleListener = null;
 
     this.projectManager.removeMavenProjectChangedListener(this.configurationManager);
     this.projectManager.removeMavenProjectChangedListener(indexManager);
@@ -348,9 +399,12 @@ public class MavenPluginActivator extends Plugin {
     this.plexus.dispose();
     this.maven.disposeContainer();
 
+    WorkerThreadFactory.stop();
+
     workspace.removeResourceChangeListener(configurationManager);
     this.configurationManager = null;
     LifecycleMappingFactory.setBundleMetadataSources(null);
+    LifecycleMappingFactory.resetProjectConfiguratorExtensions();
 
     this.projectConversionManager = null;
 
@@ -78,6 +78,8 @@ public class Messages extends NLS {
 
   public static String LifecycleMappingPluginVersionIncompatible;
 
+  public static String LifecycleMappingMetadataLoadJob_title;
+
   public static String PluginExecutionMappingDuplicate;
 
   public static String PluginExecutionMappingInvalid;
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder;
+
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+
+import org.eclipse.m2e.core.internal.embedder.MavenImpl;
+
+
+/**
+ * Scopes sharing of Maven session setup among projects to workspace build cycles, so that {@link MavenBuilder}
+ * invocations for all projects built in the same cycle reuse the same execution request and repository session
+ * configuration.
+ *
+ * @since 1.10
+ */
+public class BuildCycleListener implements IResourceChangeListener {
+
+  public static final int EVENT_MASK = IResourceChangeEvent.PRE_BUILD | IResourceChangeEvent.POST_BUILD;
+
+  private final MavenImpl maven;
+
+  public BuildCycleListener(MavenImpl maven) {
+    this.maven = maven;
+  }
+
+  public void resourceChanged(IResourceChangeEvent event) {
+    if(event.getType() == IResourceChangeEvent.PRE_BUILD) {
+      maven.enterBuildCycle();
+    } else if(event.getType() == IResourceChangeEvent.POST_BUILD) {
+      maven.exitBuildCycle();
+    }
+  }
+}
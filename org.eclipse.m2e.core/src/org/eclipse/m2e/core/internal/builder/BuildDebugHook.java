@@ -36,4 +36,13 @@ public interface BuildDebugHook {
   public void buildParticipant(IMavenProjectFacade projectFacade, MojoExecutionKey mojoExecutionKey,
       AbstractBuildParticipant participant, Set<File> files, IProgressMonitor monitor);
 
+  /**
+   * Called after {@link #buildParticipant}, with resources used by the build participant execution.
+   *
+   * @since 1.10
+   */
+  public default void buildParticipantProfile(IMavenProjectFacade projectFacade, AbstractBuildParticipant participant,
+      BuildParticipantProfile profile) {
+  }
+
 }
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Resources used by single build participant execution.
+ *
+ * @noreference This internal class can be changed or removed without notice.
+ * @since 1.10
+ */
+public class BuildParticipantProfile {
+
+  private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+  /** com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long), if supported by the running jvm */
+  private static final Method getThreadAllocatedBytes = getThreadAllocatedBytesMethod();
+
+  private final String project;
+
+  private final MojoExecutionKey mojoExecutionKey;
+
+  private final String participant;
+
+  private final int buildKind;
+
+  private final long timestamp;
+
+  private final long wallTime;
+
+  private final long cpuTime;
+
+  private final long allocatedBytes;
+
+  private final int refreshedFiles;
+
+  public BuildParticipantProfile(String project, MojoExecutionKey mojoExecutionKey, String participant, int buildKind,
+      long timestamp, long wallTime, long cpuTime, long allocatedBytes, int refreshedFiles) {
+    this.project = project;
+    this.mojoExecutionKey = mojoExecutionKey;
+    this.participant = participant;
+    this.buildKind = buildKind;
+    this.timestamp = timestamp;
+    this.wallTime = wallTime;
+    this.cpuTime = cpuTime;
+    this.allocatedBytes = allocatedBytes;
+    this.refreshedFiles = refreshedFiles;
+  }
+
+  public String getProject() {
+    return project;
+  }
+
+  public MojoExecutionKey getMojoExecutionKey() {
+    return mojoExecutionKey;
+  }
+
+  /**
+   * Fully qualified class name of the build participant.
+   */
+  public String getParticipant() {
+    return participant;
+  }
+
+  /**
+   * One of {@link org.eclipse.core.resources.IncrementalProjectBuilder} build kinds.
+   */
+  public int getBuildKind() {
+    return buildKind;
+  }
+
+  /**
+   * Time the participant execution started at, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Elapsed time, in nanoseconds.
+   */
+  public long getWallTime() {
+    return wallTime;
+  }
+
+  /**
+   * CPU time used by the executing thread, in nanoseconds, or {@code -1} if not supported by the jvm.
+   */
+  public long getCpuTime() {
+    return cpuTime;
+  }
+
+  /**
+   * Heap memory allocated by the executing thread, in bytes, or {@code -1} if not supported by the jvm.
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * Number of files the participant reported as created or modified.
+   */
+  public int getRefreshedFiles() {
+    return refreshedFiles;
+  }
+
+  /**
+   * Returns CPU time used by the current thread, in nanoseconds, or {@code -1} if not supported by the jvm.
+   */
+  static long getCurrentThreadCpuTime() {
+    try {
+      if(threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled()) {
+        return threadMXBean.getCurrentThreadCpuTime();
+      }
+    } catch(UnsupportedOperationException ex) {
+      // fall through
+    }
+    return -1;
+  }
+
+  /**
+   * Returns heap memory allocated by the current thread so far, in bytes, or {@code -1} if not supported by the jvm.
+   */
+  static long getCurrentThreadAllocatedBytes() {
+    if(getThreadAllocatedBytes != null) {
+      try {
+        return (Long) getThreadAllocatedBytes.invoke(threadMXBean, Thread.currentThread().getId());
+      } catch(Exception ex) {
+        // fall through
+      }
+    }
+    return -1;
+  }
+
+  private static Method getThreadAllocatedBytesMethod() {
+    try {
+      Class<?> type = Class.forName("com.sun.management.ThreadMXBean"); //$NON-NLS-1$
+      if(type.isInstance(threadMXBean)) {
+        return type.getMethod("getThreadAllocatedBytes", long.class); //$NON-NLS-1$
+      }
+    } catch(Exception ex) {
+      // not a hotspot jvm
+    }
+    return null;
+  }
+}
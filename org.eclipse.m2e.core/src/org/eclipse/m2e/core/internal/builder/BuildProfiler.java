@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Keeps history of the most recent builds and build participant executions and aggregates it per project mojo
+ * execution. {@link BuildSummary Build summaries} are recorded for all builds, detailed
+ * {@link BuildParticipantProfile build participant profiles} only while a {@link BuildDebugHook} collects them.
+ *
+ * @noreference This internal class can be changed or removed without notice.
+ * @since 1.10
+ */
+public class BuildProfiler {
+
+  public static final int DEFAULT_CAPACITY = 10000;
+
+  public static final int DEFAULT_BUILD_CAPACITY = 1000;
+
+  private final int capacity;
+
+  private final int buildCapacity;
+
+  private final Deque<BuildParticipantProfile> profiles = new ArrayDeque<BuildParticipantProfile>();
+
+  private final Deque<BuildSummary> builds = new ArrayDeque<BuildSummary>();
+
+  public BuildProfiler() {
+    this(DEFAULT_CAPACITY, DEFAULT_BUILD_CAPACITY);
+  }
+
+  public BuildProfiler(int capacity, int buildCapacity) {
+    this.capacity = capacity;
+    this.buildCapacity = buildCapacity;
+  }
+
+  /**
+   * Adds the build summary to the history, discarding the oldest summary if the history is full.
+   */
+  public synchronized void addBuild(BuildSummary build) {
+    if(builds.size() >= buildCapacity) {
+      builds.removeFirst();
+    }
+    builds.addLast(build);
+  }
+
+  public synchronized List<BuildSummary> getBuilds() {
+    return new ArrayList<BuildSummary>(builds);
+  }
+
+  /**
+   * Adds the profile to the history, discarding the oldest profile if the history is full.
+   */
+  public synchronized void add(BuildParticipantProfile profile) {
+    if(profiles.size() >= capacity) {
+      profiles.removeFirst();
+    }
+    profiles.addLast(profile);
+  }
+
+  public synchronized List<BuildParticipantProfile> getProfiles() {
+    return new ArrayList<BuildParticipantProfile>(profiles);
+  }
+
+  public synchronized void clear() {
+    profiles.clear();
+    builds.clear();
+  }
+
+  /**
+   * Returns up to {@code limit} project mojo executions with the highest total wall time, slowest first. Wall time is
+   * aggregated from the build summaries, CPU time and allocation from the build participant profiles.
+   */
+  public List<ExecutionSummary> getSlowestExecutions(int limit) {
+    Map<List<Object>, ExecutionSummary> summaries = new LinkedHashMap<List<Object>, ExecutionSummary>();
+    for(BuildSummary build : getBuilds()) {
+      for(Map.Entry<MojoExecutionKey, Long> entry : build.getMojoExecutionWallTimes().entrySet()) {
+        List<Object> key = Arrays.<Object> asList(build.getProject(), entry.getKey());
+        ExecutionSummary summary = summaries.get(key);
+        if(summary == null) {
+          summary = new ExecutionSummary(build.getProject(), entry.getKey());
+          summaries.put(key, summary);
+        }
+        summary.add(entry.getValue().longValue());
+      }
+    }
+    for(BuildParticipantProfile profile : getProfiles()) {
+      ExecutionSummary summary = summaries
+          .get(Arrays.<Object> asList(profile.getProject(), profile.getMojoExecutionKey()));
+      if(summary != null) {
+        summary.addProfile(profile);
+      }
+    }
+    List<ExecutionSummary> result = new ArrayList<ExecutionSummary>(summaries.values());
+    Collections.sort(result, new Comparator<ExecutionSummary>() {
+      public int compare(ExecutionSummary s1, ExecutionSummary s2) {
+        return Long.compare(s2.getTotalWallTime(), s1.getTotalWallTime());
+      }
+    });
+    return result.size() > limit ? new ArrayList<ExecutionSummary>(result.subList(0, limit)) : result;
+  }
+
+  /**
+   * Writes recorded profiles as comma separated values, one line per build participant execution.
+   */
+  public void writeCsv(Writer writer) throws IOException {
+    writer.write("timestamp,project,mojoExecution,participant,buildKind,wallTimeNanos,cpuTimeNanos," //$NON-NLS-1$
+        + "allocatedBytes,refreshedFiles\n"); //$NON-NLS-1$
+    for(BuildParticipantProfile profile : getProfiles()) {
+      writer.write(Long.toString(profile.getTimestamp()));
+      writer.write(',');
+      writer.write(csv(profile.getProject()));
+      writer.write(',');
+      writer.write(csv(profile.getMojoExecutionKey().getKeyString()));
+      writer.write(',');
+      writer.write(csv(profile.getParticipant()));
+      writer.write(',');
+      writer.write(Integer.toString(profile.getBuildKind()));
+      writer.write(',');
+      writer.write(Long.toString(profile.getWallTime()));
+      writer.write(',');
+      writer.write(Long.toString(profile.getCpuTime()));
+      writer.write(',');
+      writer.write(Long.toString(profile.getAllocatedBytes()));
+      writer.write(',');
+      writer.write(Integer.toString(profile.getRefreshedFiles()));
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  /**
+   * Writes recorded profiles as json array, one object per build participant execution.
+   */
+  public void writeJson(Writer writer) throws IOException {
+    writer.write('[');
+    boolean first = true;
+    for(BuildParticipantProfile profile : getProfiles()) {
+      writer.write(first ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+      first = false;
+      writer.write("  {\"timestamp\": " + profile.getTimestamp()); //$NON-NLS-1$
+      writer.write(", \"project\": " + json(profile.getProject())); //$NON-NLS-1$
+      writer.write(", \"mojoExecution\": " + json(profile.getMojoExecutionKey().getKeyString())); //$NON-NLS-1$
+      writer.write(", \"participant\": " + json(profile.getParticipant())); //$NON-NLS-1$
+      writer.write(", \"buildKind\": " + profile.getBuildKind()); //$NON-NLS-1$
+      writer.write(", \"wallTimeNanos\": " + profile.getWallTime()); //$NON-NLS-1$
+      writer.write(", \"cpuTimeNanos\": " + profile.getCpuTime()); //$NON-NLS-1$
+      writer.write(", \"allocatedBytes\": " + profile.getAllocatedBytes()); //$NON-NLS-1$
+      writer.write(", \"refreshedFiles\": " + profile.getRefreshedFiles()); //$NON-NLS-1$
+      writer.write('}');
+    }
+    writer.write("\n]\n"); //$NON-NLS-1$
+    writer.flush();
+  }
+
+  private static String csv(String value) {
+    if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"'; //$NON-NLS-1$ //$NON-NLS-2$
+  }
+
+  private static String json(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2);
+    sb.append('"');
+    for(int i = 0; i < value.length(); i++ ) {
+      char c = value.charAt(i);
+      switch(c) {
+        case '"':
+          sb.append("\\\""); //$NON-NLS-1$
+          break;
+        case '\\':
+          sb.append("\\\\"); //$NON-NLS-1$
+          break;
+        case '\n':
+          sb.append("\\n"); //$NON-NLS-1$
+          break;
+        case '\r':
+          sb.append("\\r"); //$NON-NLS-1$
+          break;
+        case '\t':
+          sb.append("\\t"); //$NON-NLS-1$
+          break;
+        default:
+          if(c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+    return sb.toString();
+  }
+
+  /**
+   * Aggregated resources used by all recorded build participant executions of a project mojo execution.
+   */
+  public static class ExecutionSummary {
+
+    private final String project;
+
+    private final MojoExecutionKey mojoExecutionKey;
+
+    private int executions;
+
+    private long totalWallTime;
+
+    private long maxWallTime;
+
+    private long totalCpuTime;
+
+    private long totalAllocatedBytes;
+
+    ExecutionSummary(String project, MojoExecutionKey mojoExecutionKey) {
+      this.project = project;
+      this.mojoExecutionKey = mojoExecutionKey;
+    }
+
+    void add(long wallTime) {
+      executions++ ;
+      totalWallTime += wallTime;
+      maxWallTime = Math.max(maxWallTime, wallTime);
+    }
+
+    void addProfile(BuildParticipantProfile profile) {
+      if(profile.getCpuTime() > 0) {
+        totalCpuTime += profile.getCpuTime();
+      }
+      if(profile.getAllocatedBytes() > 0) {
+        totalAllocatedBytes += profile.getAllocatedBytes();
+      }
+    }
+
+    public String getProject() {
+      return project;
+    }
+
+    public MojoExecutionKey getMojoExecutionKey() {
+      return mojoExecutionKey;
+    }
+
+    public int getExecutions() {
+      return executions;
+    }
+
+    /**
+     * Total elapsed time, in nanoseconds.
+     */
+    public long getTotalWallTime() {
+      return totalWallTime;
+    }
+
+    /**
+     * Longest single execution elapsed time, in nanoseconds.
+     */
+    public long getMaxWallTime() {
+      return maxWallTime;
+    }
+
+    /**
+     * Total CPU time, in nanoseconds, of executions where CPU time was measured.
+     */
+    public long getTotalCpuTime() {
+      return totalCpuTime;
+    }
+
+    /**
+     * Total allocated heap memory, in bytes, of executions where allocation was measured.
+     */
+    public long getTotalAllocatedBytes() {
+      return totalAllocatedBytes;
+    }
+  }
+}
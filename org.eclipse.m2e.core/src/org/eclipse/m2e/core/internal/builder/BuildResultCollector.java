@@ -13,19 +13,29 @@ package org.eclipse.m2e.core.internal.builder;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 
 /**
+ * Collects build results reported by build participants. The collector is safe for concurrent use by build participants
+ * executed in parallel, messages are reported in build participant execution order regardless of the order they were
+ * added in.
+ *
  * @since 1.6
  */
 class BuildResultCollector implements IIncrementalBuildFramework.BuildResultCollector {
 
-  private String currentParticipantId;
+  private volatile String currentParticipantId;
+
+  /** Participant id of the build participant executed on the current worker thread, if any */
+  private final ThreadLocal<String> threadParticipantId = new ThreadLocal<String>();
 
   public static class Message {
     public final File file;
@@ -54,60 +64,132 @@ class BuildResultCollector implements IIncrementalBuildFramework.BuildResultColl
   }
 
   /** Added, changed or removed resources */
-  private final Set<File> refresh = new HashSet<File>();
+  private final Set<File> refresh = Collections.synchronizedSet(new HashSet<File>());
+
+  /** Added, changed or removed resources by build participant id */
+  private final Map<String, Set<File>> participantRefresh = new HashMap<String, Set<File>>();
+
+  /** Build participant ids in execution order */
+  private final Set<String> participantIds = new LinkedHashSet<String>();
 
   /** Messages by build participant id */
-  private final Map<String, List<Message>> messages = new LinkedHashMap<String, List<Message>>();
+  private final Map<String, List<Message>> messages = new HashMap<String, List<Message>>();
 
   /** List of files to cleanup messages for by build participant id */
-  private final Map<String, List<File>> removeMessages = new LinkedHashMap<String, List<File>>();
+  private final Map<String, List<File>> removeMessages = new HashMap<String, List<File>>();
 
   @Override
   public Set<File> getFiles() {
     return refresh;
   }
 
+  /**
+   * Returns resources added, changed or removed by the given build participant.
+   *
+   * @since 1.10
+   */
+  public synchronized Set<File> getFiles(String participantId) {
+    Set<File> files = participantRefresh.get(participantId);
+    return files != null ? new LinkedHashSet<File>(files) : Collections.<File> emptySet();
+  }
+
   @Override
   public void refresh(File file) {
     refresh.add(file);
+    String participantId = getParticipantId();
+    if(participantId != null) {
+      synchronized(this) {
+        Set<File> files = participantRefresh.get(participantId);
+        if(files == null) {
+          files = new LinkedHashSet<File>();
+          participantRefresh.put(participantId, files);
+        }
+        files.add(file);
+      }
+    }
   }
 
   @Override
-  public void addMessage(File file, int line, int column, String message, int severity, Throwable cause) {
-    if(currentParticipantId == null) {
+  public synchronized void addMessage(File file, int line, int column, String message, int severity, Throwable cause) {
+    String participantId = getParticipantId();
+    if(participantId == null) {
       throw new IllegalStateException("currentBuildParticipantId cannot be null or empty");
     }
-    List<Message> messageList = messages.get(currentParticipantId);
+    List<Message> messageList = messages.get(participantId);
     if(messageList == null) {
       messageList = new ArrayList<Message>();
-      messages.put(currentParticipantId, messageList);
+      messages.put(participantId, messageList);
     }
     messageList.add(new Message(file, line, column, message, severity, cause));
   }
 
   @Override
-  public void removeMessages(File file) {
-    if(currentParticipantId == null) {
+  public synchronized void removeMessages(File file) {
+    String participantId = getParticipantId();
+    if(participantId == null) {
       throw new IllegalStateException("currentBuildParticipantId cannot be null or empty");
     }
-    List<File> files = removeMessages.get(currentParticipantId);
+    List<File> files = removeMessages.get(participantId);
     if(files == null) {
       files = new ArrayList<File>();
-      removeMessages.put(currentParticipantId, files);
+      removeMessages.put(participantId, files);
     }
     files.add(file);
   }
 
-  public Map<String, List<Message>> getMessages() {
-    return messages;
+  public synchronized Map<String, List<Message>> getMessages() {
+    return inExecutionOrder(messages);
+  }
+
+  public synchronized Map<String, List<File>> getRemoveMessages() {
+    return inExecutionOrder(removeMessages);
   }
 
-  public Map<String, List<File>> getRemoveMessages() {
-    return removeMessages;
+  private <T> Map<String, T> inExecutionOrder(Map<String, T> map) {
+    Map<String, T> result = new LinkedHashMap<String, T>();
+    for(String participantId : participantIds) {
+      T value = map.get(participantId);
+      if(value != null) {
+        result.put(participantId, value);
+      }
+    }
+    return result;
   }
 
-  public void setParticipantId(String participantId) {
+  private String getParticipantId() {
+    String participantId = threadParticipantId.get();
+    return participantId != null ? participantId : currentParticipantId;
+  }
+
+  public synchronized void setParticipantId(String participantId) {
     this.currentParticipantId = participantId;
+    if(participantId != null) {
+      participantIds.add(participantId);
+    }
+  }
+
+  /**
+   * Registers build participant that will be executed on a worker thread. Must be called from the build thread in
+   * build participant execution order.
+   *
+   * @since 1.10
+   */
+  public synchronized void addParticipantId(String participantId) {
+    participantIds.add(participantId);
+  }
+
+  /**
+   * Associates the current worker thread with the given build participant, or clears the association if
+   * {@code participantId} is {@code null}.
+   *
+   * @since 1.10
+   */
+  public void setThreadParticipantId(String participantId) {
+    if(participantId != null) {
+      threadParticipantId.set(participantId);
+    } else {
+      threadParticipantId.remove();
+    }
   }
 
 }
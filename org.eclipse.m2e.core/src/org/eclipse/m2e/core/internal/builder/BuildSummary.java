@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Elapsed time of a single project build and of its mojo executions. Unlike {@link BuildParticipantProfile}, build
+ * summaries are recorded for every build.
+ *
+ * @noreference This internal class can be changed or removed without notice.
+ * @since 1.10
+ */
+public class BuildSummary {
+
+  private final String project;
+
+  private final int buildKind;
+
+  private final long timestamp;
+
+  private final long wallTime;
+
+  private final Map<MojoExecutionKey, Long> mojoExecutionWallTimes;
+
+  public BuildSummary(String project, int buildKind, long timestamp, long wallTime,
+      Map<MojoExecutionKey, Long> mojoExecutionWallTimes) {
+    this.project = project;
+    this.buildKind = buildKind;
+    this.timestamp = timestamp;
+    this.wallTime = wallTime;
+    this.mojoExecutionWallTimes = Collections.unmodifiableMap(mojoExecutionWallTimes);
+  }
+
+  public String getProject() {
+    return project;
+  }
+
+  public int getBuildKind() {
+    return buildKind;
+  }
+
+  /**
+   * Build start time, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Elapsed time of all build participants of the build, in nanoseconds.
+   */
+  public long getWallTime() {
+    return wallTime;
+  }
+
+  /**
+   * Elapsed time of build participants of each mojo execution, in nanoseconds, in execution order.
+   */
+  public Map<MojoExecutionKey, Long> getMojoExecutionWallTimes() {
+    return mojoExecutionWallTimes;
+  }
+}
@@ -27,9 +27,12 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 
 import org.apache.maven.project.MavenProject;
 
@@ -151,7 +154,18 @@ public class MavenBuilder extends IncrementalProjectBuilder implements DeltaProv
 
       IMavenProjectFacade projectFacade = projectManager.getProject(project);
 
+      if(projectFacade != null && !projectFacade.isStale() && !canRefresh()) {
+        // up-to-date facade was used to calculate project scheduling rule, the pom was already refreshed
+        force = false;
+      }
+
       if(force || projectFacade == null || projectFacade.isStale()) {
+        if(!canRefresh()) {
+          // the pom changed after the build was scheduled, rebuild with workspace rule once it is refreshed
+          log.debug("Project {} changed after build was scheduled, requesting rebuild", project.getName()); //$NON-NLS-1$
+          needRebuild();
+          return null;
+        }
         projectManager.refresh(Collections.singleton(pomResource), monitor);
         projectFacade = projectManager.getProject(project);
         if(projectFacade == null) {
@@ -162,6 +176,14 @@ public class MavenBuilder extends IncrementalProjectBuilder implements DeltaProv
 
       return projectFacade;
     }
+
+    /**
+     * Project registry refresh requires workspace root scheduling rule.
+     */
+    private boolean canRefresh() {
+      ISchedulingRule rule = Job.getJobManager().currentRule();
+      return rule == null || rule.contains(ResourcesPlugin.getWorkspace().getRoot());
+    }
   }
 
   private BuildMethod<IProject[]> methodBuild = new BuildMethod<IProject[]>() {
@@ -217,6 +239,8 @@ public class MavenBuilder extends IncrementalProjectBuilder implements DeltaProv
 
   private static final List<BuildDebugHook> debugHooks = new ArrayList<BuildDebugHook>();
 
+  private static final BuildProfiler buildProfiler = new BuildProfiler();
+
   public static void addDebugHook(BuildDebugHook hook) {
     synchronized(debugHooks) {
       for(BuildDebugHook other : debugHooks) {
@@ -246,10 +270,30 @@ public class MavenBuilder extends IncrementalProjectBuilder implements DeltaProv
     }
   }
 
+  /**
+   * Returns the profiler that records summaries of all builds of the workspace.
+   *
+   * @since 1.10
+   */
+  public static BuildProfiler getBuildProfiler() {
+    return buildProfiler;
+  }
+
   public ISchedulingRule getRule(int kind, Map<String, String> args) {
     if(MavenPlugin.getMavenConfiguration().buildWithNullSchedulingRule()) {
       return null;
     }
-    return super.getRule(kind, args);
+    IProject project = getProject();
+    ProjectRegistryManager projectManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+    IMavenProjectFacade facade = projectManager.getProject(project);
+    if(facade == null || facade.isStale()) {
+      // the build will refresh project registry, which requires workspace root rule
+      return super.getRule(kind, args);
+    }
+    // the project and workspace projects it depends on, allows independent projects to be built concurrently
+    List<ISchedulingRule> rules = new ArrayList<ISchedulingRule>();
+    rules.add(project);
+    rules.addAll(projectManager.getWorkspaceDependencies(project));
+    return MultiRule.combine(rules.toArray(new ISchedulingRule[rules.size()]));
   }
 }
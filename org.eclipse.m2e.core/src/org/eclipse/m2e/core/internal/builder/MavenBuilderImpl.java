@@ -17,6 +17,8 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -24,25 +26,43 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.jobs.IJobManager;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.apache.maven.execution.MavenExecutionResult;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
 
+import org.sonatype.plexus.build.incremental.ThreadBuildContext;
+
+import org.eclipse.m2e.core.embedder.ICallable;
+import org.eclipse.m2e.core.embedder.IMavenExecutionContext;
 import org.eclipse.m2e.core.internal.ExtensionReader;
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
@@ -51,8 +71,11 @@ import org.eclipse.m2e.core.internal.builder.BuildResultCollector.Message;
 import org.eclipse.m2e.core.internal.builder.IIncrementalBuildFramework.BuildContext;
 import org.eclipse.m2e.core.internal.builder.plexusbuildapi.AbstractEclipseBuildContext;
 import org.eclipse.m2e.core.internal.builder.plexusbuildapi.PlexusBuildAPI;
+import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.WorkerThreadFactory;
 import org.eclipse.m2e.core.internal.embedder.MavenProjectMutableState;
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
+import org.eclipse.m2e.core.internal.markers.MavenProblemInfo;
 import org.eclipse.m2e.core.internal.markers.SourceLocation;
 import org.eclipse.m2e.core.internal.markers.SourceLocationHelper;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
@@ -71,6 +94,9 @@ public class MavenBuilderImpl {
 
   private final List<IIncrementalBuildFramework> incrementalBuildFrameworks;
 
+  /** Executes thread safe build participants, shared by all builds */
+  private static ExecutorService participantExecutor;
+
   public MavenBuilderImpl(DeltaProvider deltaProvider) {
     this.deltaProvider = deltaProvider;
     this.incrementalBuildFrameworks = loadIncrementalBuildFrameworks();
@@ -100,7 +126,7 @@ public class MavenBuilderImpl {
 
     Collection<BuildDebugHook> debugHooks = MavenBuilder.getDebugHooks();
 
-    Set<IProject> dependencies = new HashSet<IProject>();
+    Set<IProject> dependencies = Collections.synchronizedSet(new HashSet<IProject>());
 
     MavenProject mavenProject = projectFacade.getMavenProject();
     IProject project = projectFacade.getProject();
@@ -112,55 +138,41 @@ public class MavenBuilderImpl {
 
     debugBuildStart(debugHooks, projectFacade, kind, args, participants, delta, monitor);
 
-    Map<Throwable, MojoExecutionKey> buildErrors = new LinkedHashMap<Throwable, MojoExecutionKey>();
+    Map<Throwable, MojoExecutionKey> buildErrors = Collections
+        .synchronizedMap(new LinkedHashMap<Throwable, MojoExecutionKey>());
     MavenProjectMutableState snapshot = MavenProjectMutableState.takeSnapshot(mavenProject);
+    List<ParticipantExecution> executions = new ArrayList<ParticipantExecution>();
+    long buildTimestamp = System.currentTimeMillis();
+    long buildStartTime = System.nanoTime();
     try {
+      // concurrent execution requires all build context state to be known, i.e. no third-party build frameworks
+      boolean concurrent = incrementalContexts.size() == 1;
+      AbstractEclipseBuildContext buildContext = (AbstractEclipseBuildContext) incrementalContexts.get(0);
+      List<ParticipantExecution> batch = new ArrayList<ParticipantExecution>();
       for(Entry<MojoExecutionKey, List<AbstractBuildParticipant>> entry : participants.entrySet()) {
         MojoExecutionKey mojoExecutionKey = entry.getKey();
-        for(InternalBuildParticipant participant : entry.getValue()) {
-          Set<File> debugRefreshFiles = !debugHooks.isEmpty() ? new LinkedHashSet<File>(participantResults.getFiles())
-              : null;
-
-          log.debug("Executing build participant {} for plugin execution {}", participant.getClass().getName(),
-              mojoExecutionKey.toString());
-          participantResults.setParticipantId(mojoExecutionKey.getKeyString() + "-" + participant.getClass().getName());
-          participant.setMavenProjectFacade(projectFacade);
-          participant.setGetDeltaCallback(getDeltaProvider());
-          participant.setSession(session);
-          participant.setBuildContext((AbstractEclipseBuildContext) incrementalContexts.get(0));
-          if(participant instanceof InternalBuildParticipant2) {
-            ((InternalBuildParticipant2) participant).setArgs(args);
+        for(AbstractBuildParticipant participant : entry.getValue()) {
+          ParticipantExecution execution = new ParticipantExecution(mojoExecutionKey, participant);
+          execution.profile = !debugHooks.isEmpty();
+          executions.add(execution);
+          setupParticipant(session, projectFacade, buildContext, args, participant);
+          if(concurrent && execution.isConcurrent() && !execution.conflicts(batch)) {
+            batch.add(execution);
+            continue;
           }
-          long executionStartTime = System.currentTimeMillis();
-          try {
-            if(isApplicable(participant, kind, delta)) {
-              Set<IProject> sub = participant.build(kind, monitor);
-              if(sub != null) {
-                dependencies.addAll(sub);
-              }
-            }
-          } catch(Exception e) {
-            log.debug("Exception in build participant {}", participant.getClass().getName(), e);
-            buildErrors.put(e, mojoExecutionKey);
-          } finally {
-            log.debug("Finished executing build participant {} for plugin execution {} in {} ms", new Object[] {
-                participant.getClass().getName(), mojoExecutionKey.toString(),
-                System.currentTimeMillis() - executionStartTime});
-            participant.setMavenProjectFacade(null);
-            participant.setGetDeltaCallback(null);
-            participant.setSession(null);
-            participant.setBuildContext(null);
-            if(participant instanceof InternalBuildParticipant2) {
-              ((InternalBuildParticipant2) participant).setArgs(Collections.<String, String> emptyMap());
-            }
-
-            processMavenSessionErrors(session, mojoExecutionKey, buildErrors);
+          executeBatch(session, projectFacade, kind, delta, monitor, debugHooks, dependencies, participantResults,
+              buildContext, buildErrors, batch);
+          batch.clear();
+          if(concurrent && execution.isConcurrent()) {
+            batch.add(execution);
+          } else {
+            executeSerially(session, projectFacade, kind, delta, monitor, debugHooks, dependencies, participantResults,
+                buildErrors, execution);
           }
-
-          debugBuildParticipant(debugHooks, projectFacade, mojoExecutionKey, (AbstractBuildParticipant) participant,
-              diff(debugRefreshFiles, participantResults.getFiles()), monitor);
         }
       }
+      executeBatch(session, projectFacade, kind, delta, monitor, debugHooks, dependencies, participantResults,
+          buildContext, buildErrors, batch);
     } catch(Exception e) {
       log.debug("Unexpected build exception", e);
       buildErrors.put(e, null);
@@ -169,6 +181,7 @@ public class MavenBuilderImpl {
       for(IIncrementalBuildFramework.BuildContext context : incrementalContexts) {
         context.release();
       }
+      recordBuildSummary(project, kind, buildTimestamp, System.nanoTime() - buildStartTime, executions);
     }
 
     // Refresh files modified by build participants/maven plugins
@@ -181,6 +194,294 @@ public class MavenBuilderImpl {
     return dependencies;
   }
 
+  private static void recordBuildSummary(IProject project, int kind, long timestamp, long wallTime,
+      List<ParticipantExecution> executions) {
+    Map<MojoExecutionKey, Long> mojoExecutionWallTimes = new LinkedHashMap<MojoExecutionKey, Long>();
+    for(ParticipantExecution execution : executions) {
+      Long executionWallTime = mojoExecutionWallTimes.get(execution.mojoExecutionKey);
+      mojoExecutionWallTimes.put(execution.mojoExecutionKey,
+          (executionWallTime != null ? executionWallTime.longValue() : 0) + execution.wallTime);
+    }
+    MavenBuilder.getBuildProfiler()
+        .addBuild(new BuildSummary(project.getName(), kind, timestamp, wallTime, mojoExecutionWallTimes));
+  }
+
+  private void setupParticipant(MavenSession session, IMavenProjectFacade projectFacade,
+      AbstractEclipseBuildContext buildContext, Map<String, String> args, InternalBuildParticipant participant) {
+    participant.setMavenProjectFacade(projectFacade);
+    participant.setGetDeltaCallback(getDeltaProvider());
+    participant.setSession(session);
+    participant.setBuildContext(buildContext);
+    if(participant instanceof InternalBuildParticipant2) {
+      ((InternalBuildParticipant2) participant).setArgs(args);
+    }
+  }
+
+  private void teardownParticipant(InternalBuildParticipant participant) {
+    participant.setMavenProjectFacade(null);
+    participant.setGetDeltaCallback(null);
+    participant.setSession(null);
+    participant.setBuildContext(null);
+    if(participant instanceof InternalBuildParticipant2) {
+      ((InternalBuildParticipant2) participant).setArgs(Collections.<String, String> emptyMap());
+    }
+  }
+
+  private void executeSerially(MavenSession session, IMavenProjectFacade projectFacade, int kind,
+      IResourceDelta delta, IProgressMonitor monitor, Collection<BuildDebugHook> debugHooks,
+      Set<IProject> dependencies, BuildResultCollector participantResults,
+      Map<Throwable, MojoExecutionKey> buildErrors, ParticipantExecution execution) {
+    Set<File> debugRefreshFiles = !debugHooks.isEmpty() ? new LinkedHashSet<File>(participantResults.getFiles())
+        : null;
+
+    participantResults.setParticipantId(execution.participantId);
+    try {
+      executeParticipant(kind, delta, monitor, dependencies, buildErrors, execution);
+    } finally {
+      teardownParticipant(execution.participant);
+      processMavenSessionErrors(session, execution.mojoExecutionKey, buildErrors);
+    }
+
+    debugBuildParticipant(debugHooks, projectFacade, kind, execution,
+        diff(debugRefreshFiles, participantResults.getFiles()), monitor);
+  }
+
+  /**
+   * Executes thread safe build participants with non-overlapping input and output locations concurrently.
+   */
+  private void executeBatch(MavenSession session, IMavenProjectFacade projectFacade, final int kind,
+      final IResourceDelta delta, final IProgressMonitor monitor, Collection<BuildDebugHook> debugHooks,
+      final Set<IProject> dependencies, final BuildResultCollector participantResults,
+      final AbstractEclipseBuildContext buildContext, final Map<Throwable, MojoExecutionKey> buildErrors,
+      List<ParticipantExecution> batch) {
+    if(batch.isEmpty()) {
+      return;
+    }
+    if(batch.size() == 1) {
+      executeSerially(session, projectFacade, kind, delta, monitor, debugHooks, dependencies, participantResults,
+          buildErrors, batch.get(0));
+      return;
+    }
+
+    // progress monitors are not thread safe, only propagate cancellation to worker threads
+    final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+      @Override
+      public boolean isCanceled() {
+        return monitor.isCanceled();
+      }
+    };
+
+    final MavenProject mavenProject = projectFacade.getMavenProject();
+    List<Future<?>> futures = new ArrayList<Future<?>>();
+    for(final ParticipantExecution execution : batch) {
+      participantResults.addParticipantId(execution.participantId);
+      futures.add(getParticipantExecutor().submit(MavenExecutionContext.wrap(new Runnable() {
+        public void run() {
+          ThreadBuildContext.setThreadBuildContext(buildContext);
+          participantResults.setThreadParticipantId(execution.participantId);
+          try {
+            executeConcurrently(mavenProject, kind, delta, workerMonitor, dependencies, buildErrors, execution);
+          } finally {
+            participantResults.setThreadParticipantId(null);
+            ThreadBuildContext.setThreadBuildContext(null);
+          }
+        }
+      })));
+    }
+
+    for(int i = 0; i < batch.size(); i++ ) {
+      ParticipantExecution execution = batch.get(i);
+      try {
+        futures.get(i).get();
+      } catch(InterruptedException e) {
+        Thread.currentThread().interrupt();
+        buildErrors.put(e, execution.mojoExecutionKey);
+      } catch(ExecutionException e) {
+        buildErrors.put(e.getCause(), execution.mojoExecutionKey);
+      }
+      teardownParticipant(execution.participant);
+      debugBuildParticipant(debugHooks, projectFacade, kind, execution,
+          participantResults.getFiles(execution.participantId), monitor);
+    }
+  }
+
+  /**
+   * Executes thread safe build participant on a worker thread. The participant gets its own Maven session, so errors
+   * reported to the session are attributed to its mojo execution, and the current project of the session is a copy of
+   * the project, so the participant can modify project state without affecting other participants.
+   * <p>
+   * The build thread holds the build scheduling rule and waits for the worker, so a scheduling rule begun by the
+   * participant could never be acquired. The participant runs under a private rule that does not conflict with any
+   * other rule, nested workspace operations that begin a rule fail immediately instead of blocking forever.
+   */
+  private void executeConcurrently(final MavenProject mavenProject, final int kind, final IResourceDelta delta,
+      IProgressMonitor monitor, final Set<IProject> dependencies, final Map<Throwable, MojoExecutionKey> buildErrors,
+      final ParticipantExecution execution) {
+    IJobManager jobManager = Job.getJobManager();
+    ISchedulingRule rule = new ConcurrentParticipantRule();
+    jobManager.beginRule(rule, null);
+    try {
+      MavenExecutionContext context = MavenPluginActivator.getDefault().getMaven().createExecutionContext();
+      // a copy of the build request gives the participant its own session instead of joining the build session
+      context.getExecutionRequest();
+      context.execute(copyProject(mavenProject), new ICallable<Void>() {
+        public Void call(IMavenExecutionContext context, IProgressMonitor monitor) {
+          MavenSession session = context.getSession();
+          execution.participant.setSession(session);
+          executeParticipant(kind, delta, monitor, dependencies, buildErrors, execution);
+          processMavenSessionErrors(session, execution.mojoExecutionKey, buildErrors);
+          return null;
+        }
+      }, monitor);
+    } catch(CoreException e) {
+      buildErrors.put(e, execution.mojoExecutionKey);
+    } finally {
+      jobManager.endRule(rule);
+    }
+  }
+
+  /**
+   * Returns a copy of the project that does not share mutable state, including context values, with the original.
+   */
+  private static MavenProject copyProject(MavenProject project) {
+    MavenProject copy = new MavenProject(project);
+    copy.setFile(project.getFile());
+    copy.setParent(project.getParent());
+    copy.setClassRealm(project.getClassRealm());
+    copy.setExtensionDependencyFilter(project.getExtensionDependencyFilter());
+    copy.setProjectBuildingRequest(project.getProjectBuildingRequest());
+    return copy;
+  }
+
+  /**
+   * Scheduling rule of a concurrently executing build participant, does not contain or conflict with any other rule.
+   */
+  private static class ConcurrentParticipantRule implements ISchedulingRule {
+    public boolean contains(ISchedulingRule rule) {
+      return rule == this;
+    }
+
+    public boolean isConflicting(ISchedulingRule rule) {
+      return rule == this;
+    }
+  }
+
+  private void executeParticipant(int kind, IResourceDelta delta, IProgressMonitor monitor,
+      Set<IProject> dependencies, Map<Throwable, MojoExecutionKey> buildErrors, ParticipantExecution execution) {
+    InternalBuildParticipant participant = execution.participant;
+    MojoExecutionKey mojoExecutionKey = execution.mojoExecutionKey;
+    log.debug("Executing build participant {} for plugin execution {}", participant.getClass().getName(),
+        mojoExecutionKey.toString());
+    execution.startTimestamp = System.currentTimeMillis();
+    long executionStartTime = System.nanoTime();
+    long cpuStartTime = execution.profile ? BuildParticipantProfile.getCurrentThreadCpuTime() : -1;
+    long allocatedStartBytes = execution.profile ? BuildParticipantProfile.getCurrentThreadAllocatedBytes() : -1;
+    try {
+      if(isApplicable(participant, kind, delta)) {
+        Set<IProject> sub = participant.build(kind, monitor);
+        if(sub != null) {
+          dependencies.addAll(sub);
+        }
+      }
+    } catch(Exception e) {
+      log.debug("Exception in build participant {}", participant.getClass().getName(), e);
+      buildErrors.put(e, mojoExecutionKey);
+    } finally {
+      execution.wallTime = System.nanoTime() - executionStartTime;
+      if(cpuStartTime >= 0) {
+        execution.cpuTime = BuildParticipantProfile.getCurrentThreadCpuTime() - cpuStartTime;
+      }
+      if(allocatedStartBytes >= 0) {
+        execution.allocatedBytes = BuildParticipantProfile.getCurrentThreadAllocatedBytes() - allocatedStartBytes;
+      }
+      log.debug("Finished executing build participant {} for plugin execution {} in {} ms", new Object[] {
+          participant.getClass().getName(), mojoExecutionKey.toString(),
+          TimeUnit.NANOSECONDS.toMillis(execution.wallTime)});
+    }
+  }
+
+  private static synchronized ExecutorService getParticipantExecutor() {
+    if(participantExecutor == null) {
+      int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+      ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory("M2E build participant")); //$NON-NLS-1$
+      executor.allowCoreThreadTimeOut(true);
+      participantExecutor = executor;
+    }
+    return participantExecutor;
+  }
+
+  /**
+   * Build participant scheduled for execution for a mojo execution.
+   */
+  private static class ParticipantExecution {
+    final MojoExecutionKey mojoExecutionKey;
+
+    final AbstractBuildParticipant participant;
+
+    final String participantId;
+
+    private Collection<File> inputs;
+
+    private Collection<File> outputs;
+
+    private Boolean concurrent;
+
+    /** whether cpu time and memory allocation of the execution are measured */
+    boolean profile;
+
+    long startTimestamp;
+
+    long wallTime;
+
+    long cpuTime = -1;
+
+    long allocatedBytes = -1;
+
+    ParticipantExecution(MojoExecutionKey mojoExecutionKey, AbstractBuildParticipant participant) {
+      this.mojoExecutionKey = mojoExecutionKey;
+      this.participant = participant;
+      this.participantId = mojoExecutionKey.getKeyString() + "-" + participant.getClass().getName();
+    }
+
+    /**
+     * Returns {@code true} if the participant declared itself thread safe and declared its input and output locations.
+     * Must be called after the participant is associated with the project.
+     */
+    boolean isConcurrent() {
+      if(concurrent == null) {
+        if(participant.isThreadSafe()) {
+          inputs = participant.getInputLocations();
+          outputs = participant.getOutputLocations();
+        }
+        concurrent = inputs != null && outputs != null;
+      }
+      return concurrent.booleanValue();
+    }
+
+    boolean conflicts(List<ParticipantExecution> executions) {
+      for(ParticipantExecution other : executions) {
+        if(overlaps(outputs, other.outputs) || overlaps(outputs, other.inputs) || overlaps(inputs, other.outputs)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean overlaps(Collection<File> locations, Collection<File> otherLocations) {
+      for(File location : locations) {
+        IPath path = Path.fromOSString(location.getAbsolutePath());
+        for(File otherLocation : otherLocations) {
+          IPath otherPath = Path.fromOSString(otherLocation.getAbsolutePath());
+          if(path.isPrefixOf(otherPath) || otherPath.isPrefixOf(path)) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+  }
+
   private List<IIncrementalBuildFramework.BuildContext> setupProjectBuildContext(IProject project, int kind,
       IResourceDelta delta, IIncrementalBuildFramework.BuildResultCollector results) throws CoreException {
     List<IIncrementalBuildFramework.BuildContext> contexts = new ArrayList<IIncrementalBuildFramework.BuildContext>();
@@ -190,10 +491,17 @@ public class MavenBuilderImpl {
     return contexts;
   }
 
-  private void debugBuildParticipant(Collection<BuildDebugHook> hooks, IMavenProjectFacade projectFacade,
-      MojoExecutionKey mojoExecutionKey, AbstractBuildParticipant participant, Set<File> files, IProgressMonitor monitor) {
+  private void debugBuildParticipant(Collection<BuildDebugHook> hooks, IMavenProjectFacade projectFacade, int kind,
+      ParticipantExecution execution, Set<File> files, IProgressMonitor monitor) {
+    if(hooks.isEmpty()) {
+      return;
+    }
+    BuildParticipantProfile profile = new BuildParticipantProfile(projectFacade.getProject().getName(),
+        execution.mojoExecutionKey, execution.participant.getClass().getName(), kind, execution.startTimestamp,
+        execution.wallTime, execution.cpuTime, execution.allocatedBytes, files != null ? files.size() : 0);
     for(BuildDebugHook hook : hooks) {
-      hook.buildParticipant(projectFacade, mojoExecutionKey, participant, files, monitor);
+      hook.buildParticipant(projectFacade, execution.mojoExecutionKey, execution.participant, files, monitor);
+      hook.buildParticipantProfile(projectFacade, execution.participant, profile);
     }
   }
 
@@ -230,8 +538,17 @@ public class MavenBuilderImpl {
     }
   }
 
-  private void refreshResources(IProject project, Collection<File> resources, IProgressMonitor monitor)
+  /**
+   * Refreshes files reported by build participants. Reported files are collapsed into a minimal set of containers,
+   * each container is refreshed once and all refreshes are batched in a single workspace operation.
+   */
+  private void refreshResources(final IProject project, Collection<File> resources, IProgressMonitor monitor)
       throws CoreException {
+    // container to refresh -> refresh depth
+    final Map<IContainer, Integer> containers = new HashMap<IContainer, Integer>();
+    // existing resource -> local timestamp before refresh
+    final Map<IResource, Long> timestamps = new LinkedHashMap<IResource, Long>();
+
     for(File file : resources) {
       IPath path = getProjectRelativePath(project, file);
       if(path == null) {
@@ -239,19 +556,38 @@ public class MavenBuilderImpl {
         continue; // odd
       }
 
-      IResource resource;
       if(path.isEmpty()) {
-        resource = project;
-      } else if(!file.exists()) {
-        resource = project.findMember(path);
+        containers.put(project, IResource.DEPTH_INFINITE);
+        timestamps.put(project, project.getLocalTimeStamp());
       } else if(file.isDirectory()) {
-        resource = project.getFolder(path);
+        IFolder folder = project.getFolder(path);
+        containers.put(folder, IResource.DEPTH_INFINITE);
+        timestamps.put(folder, folder.getLocalTimeStamp());
       } else {
-        resource = project.getFile(path);
+        IResource resource = file.exists() ? project.getFile(path) : project.findMember(path);
+        IContainer parent = path.segmentCount() > 1 ? project.getFolder(path.removeLastSegments(1)) : project;
+        if(!containers.containsKey(parent)) {
+          containers.put(parent, IResource.DEPTH_ONE);
+        }
+        if(resource != null) {
+          timestamps.put(resource, resource.getLocalTimeStamp());
+        }
       }
-      if(resource != null) {
-        resource.refreshLocal(IResource.DEPTH_INFINITE, monitor);
-        if(resource.exists()) {
+    }
+
+    if(containers.isEmpty()) {
+      return;
+    }
+
+    final List<IContainer> refresh = getCoveringContainers(containers);
+
+    IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        for(IContainer container : refresh) {
+          container.refreshLocal(containers.get(container), monitor);
+        }
+        for(Entry<IResource, Long> entry : timestamps.entrySet()) {
+          IResource resource = entry.getKey();
           // the resource has changed for certain, make sure resource sends IResourceChangeEvent
 
           // eclipse uses file lastModified timestamp to detect resource changes
@@ -259,10 +595,47 @@ public class MavenBuilderImpl {
           // - two builds happen within filesystem resolution (1s on linux and osx, causes problems during unit tests)
           // - maven mojo deliberately keeps lastModified (unlikely, but theoretically possible)
           // @see org.eclipse.core.internal.localstore.RefreshLocalVisitor.visit(UnifiedTreeNode)
-          resource.touch(monitor);
+          if(resource.exists() && resource.getLocalTimeStamp() == entry.getValue().longValue()) {
+            resource.touch(monitor);
+          }
         }
       }
+    };
+    project.getWorkspace().run(runnable, project, IWorkspace.AVOID_UPDATE, monitor);
+  }
+
+  /**
+   * Returns containers that need to be refreshed, skipping containers already covered by a recursive refresh of one of
+   * their ancestors.
+   */
+  private static List<IContainer> getCoveringContainers(Map<IContainer, Integer> containers) {
+    List<IContainer> sorted = new ArrayList<IContainer>(containers.keySet());
+    // parents sort before their children
+    Collections.sort(sorted, new Comparator<IContainer>() {
+      public int compare(IContainer c1, IContainer c2) {
+        return c1.getFullPath().segmentCount() - c2.getFullPath().segmentCount();
+      }
+    });
+    List<IContainer> result = new ArrayList<IContainer>();
+    List<IPath> recursive = new ArrayList<IPath>();
+    for(IContainer container : sorted) {
+      IPath path = container.getFullPath();
+      boolean covered = false;
+      for(IPath ancestor : recursive) {
+        if(ancestor.isPrefixOf(path)) {
+          covered = true;
+          break;
+        }
+      }
+      if(covered) {
+        continue;
+      }
+      result.add(container);
+      if(containers.get(container).intValue() == IResource.DEPTH_INFINITE) {
+        recursive.add(path);
+      }
     }
+    return result;
   }
 
   public static IPath getProjectRelativePath(IProject project, File file) {
@@ -287,19 +660,29 @@ public class MavenBuilderImpl {
       BuildResultCollector results, Map<Throwable, MojoExecutionKey> buildErrors) {
     IMavenMarkerManager markerManager = MavenPluginActivator.getDefault().getMavenMarkerManager();
 
-    // Remove obsolete markers for problems reported by build participants
+    // Markers for problems reported by build participants, by participant and resource. Markers of files with
+    // removed messages are reconciled with new messages, markers of other files are only added.
+    Map<String, Map<IResource, List<MavenProblemInfo>>> participantProblems = new LinkedHashMap<String, Map<IResource, List<MavenProblemInfo>>>();
     for(Entry<String, List<File>> entry : results.getRemoveMessages().entrySet()) {
-      String buildParticipantId = entry.getKey();
+      Map<IResource, List<MavenProblemInfo>> resourceProblems = new LinkedHashMap<IResource, List<MavenProblemInfo>>();
       for(File file : entry.getValue()) {
-        deleteBuildParticipantMarkers(project, markerManager, file, buildParticipantId);
+        resourceProblems.put(getMarkerResource(project, file), new ArrayList<MavenProblemInfo>());
       }
+      participantProblems.put(entry.getKey(), resourceProblems);
     }
 
-    // Create new markers for problems reported by build participants
     for(Entry<String, List<Message>> messageEntry : results.getMessages().entrySet()) {
       String buildParticipantId = messageEntry.getKey();
+      Map<IResource, List<MavenProblemInfo>> resourceProblems = participantProblems.get(buildParticipantId);
       for(Message buildMessage : messageEntry.getValue()) {
-        addBuildParticipantMarker(project, markerManager, buildMessage, buildParticipantId);
+        IResource resource = getMarkerResource(project, buildMessage.file);
+        List<MavenProblemInfo> problems = resourceProblems != null ? resourceProblems.get(resource) : null;
+        if(problems != null) {
+          problems.add(new BuildParticipantProblemInfo(getBuildParticipantMessage(buildMessage, buildParticipantId),
+              buildMessage.severity, buildMessage.line));
+        } else {
+          addBuildParticipantMarker(resource, markerManager, buildMessage, buildParticipantId);
+        }
 
         if(buildMessage.cause != null && buildErrors.containsKey(buildMessage.cause)) {
           buildErrors.remove(buildMessage.cause);
@@ -307,7 +690,19 @@ public class MavenBuilderImpl {
       }
     }
 
+    for(Entry<String, Map<IResource, List<MavenProblemInfo>>> entry : participantProblems.entrySet()) {
+      for(Entry<IResource, List<MavenProblemInfo>> resourceEntry : entry.getValue().entrySet()) {
+        try {
+          markerManager.updateMarkers(resourceEntry.getKey(), IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
+              BUILD_PARTICIPANT_ID_ATTR_NAME, entry.getKey(), resourceEntry.getValue());
+        } catch(CoreException ex) {
+          log.error(ex.getMessage(), ex);
+        }
+      }
+    }
+
     // Create markers for the build errors linked to mojo/plugin executions
+    List<MavenProblemInfo> problems = new ArrayList<MavenProblemInfo>();
     for(Throwable error : buildErrors.keySet()) {
       MojoExecutionKey mojoExecutionKey = buildErrors.get(error);
       SourceLocation markerLocation;
@@ -316,9 +711,15 @@ public class MavenBuilderImpl {
       } else {
         markerLocation = new SourceLocation(1, 0, 0);
       }
-      BuildProblemInfo problem = new BuildProblemInfo(error, mojoExecutionKey, markerLocation);
-      markerManager.addErrorMarker(project.getFile(IMavenConstants.POM_FILE_NAME), IMavenConstants.MARKER_BUILD_ID,
-          problem);
+      problems.add(new BuildProblemInfo(error, mojoExecutionKey, markerLocation));
+    }
+    if(!problems.isEmpty()) {
+      try {
+        markerManager.addErrorMarkers(project.getFile(IMavenConstants.POM_FILE_NAME), IMavenConstants.MARKER_BUILD_ID,
+            problems);
+      } catch(CoreException ex) {
+        log.error(ex.getMessage(), ex);
+      }
     }
 
     if(result.hasExceptions()) {
@@ -326,8 +727,7 @@ public class MavenBuilderImpl {
     }
   }
 
-  private void deleteBuildParticipantMarkers(IProject project, IMavenMarkerManager markerManager, File file,
-      String buildParticipantId) {
+  private static IResource getMarkerResource(IProject project, File file) {
     IPath path = getProjectRelativePath(project, file);
     IResource resource = null;
     if(path != null) {
@@ -336,30 +736,19 @@ public class MavenBuilderImpl {
     if(resource == null) {
       resource = project.getFile(IMavenConstants.POM_FILE_NAME);
     }
-    try {
-      markerManager.deleteMarkers(resource, IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
-          BUILD_PARTICIPANT_ID_ATTR_NAME, buildParticipantId);
-    } catch(CoreException ex) {
-      log.error(ex.getMessage(), ex);
-    }
+    return resource;
   }
 
-  private void addBuildParticipantMarker(IProject project, IMavenMarkerManager markerManager, Message buildMessage,
-      String buildParticipantId) {
-
-    IPath path = getProjectRelativePath(project, buildMessage.file);
-    IResource resource = null;
-    if(path != null) {
-      resource = project.findMember(path);
-    }
-    if(resource == null) {
-      resource = project.getFile(IMavenConstants.POM_FILE_NAME);
-    }
+  private static String getBuildParticipantMessage(Message buildMessage, String buildParticipantId) {
     int at = buildParticipantId.lastIndexOf('-');
     String pluginExecutionKey = buildParticipantId.substring(0, at);
-    String message = buildMessage.message + " (" + pluginExecutionKey + ')'; //$NON-NLS-1$
-    IMarker marker = markerManager.addMarker(resource, IMavenConstants.MARKER_BUILD_PARTICIPANT_ID, message,
-        buildMessage.line, buildMessage.severity);
+    return buildMessage.message + " (" + pluginExecutionKey + ')'; //$NON-NLS-1$
+  }
+
+  private void addBuildParticipantMarker(IResource resource, IMavenMarkerManager markerManager, Message buildMessage,
+      String buildParticipantId) {
+    IMarker marker = markerManager.addMarker(resource, IMavenConstants.MARKER_BUILD_PARTICIPANT_ID,
+        getBuildParticipantMessage(buildMessage, buildParticipantId), buildMessage.line, buildMessage.severity);
     try {
       marker.setAttribute(BUILD_PARTICIPANT_ID_ATTR_NAME, buildParticipantId);
     } catch(CoreException ex) {
@@ -367,6 +756,21 @@ public class MavenBuilderImpl {
     }
   }
 
+  /**
+   * Problem reported by a build participant, the marker can be on any project resource and does not have pom.xml
+   * location attributes.
+   */
+  private static class BuildParticipantProblemInfo extends MavenProblemInfo {
+    BuildParticipantProblemInfo(String message, int severity, int line) {
+      super(message, severity, new SourceLocation(line, 0, 0));
+    }
+
+    @Override
+    public void processMarker(IMarker marker) throws CoreException {
+      marker.setAttribute(IMarker.LINE_NUMBER, getLocation().getLineNumber() == -1 ? 1 : getLocation().getLineNumber());
+    }
+  }
+
   public void clean(MavenSession session, IMavenProjectFacade projectFacade,
       Map<MojoExecutionKey, List<AbstractBuildParticipant>> participants, IProgressMonitor monitor)
       throws CoreException {
@@ -410,6 +814,7 @@ public class MavenBuilderImpl {
       for(IIncrementalBuildFramework.BuildContext context : incrementalContexts) {
         context.release();
       }
+      recordBuildSummary(project, kind, buildTimestamp, System.nanoTime() - buildStartTime, executions);
     }
 
     // Refresh files modified by build participants/maven plugins
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
@@ -37,6 +38,11 @@ public abstract class AbstractEclipseBuildContext implements BuildContext, IIncr
 
   private final IIncrementalBuildFramework.BuildResultCollector results;
 
+  private volatile BuildInputs recordedInputs;
+
+  /** values shared by build participants of the project during this build only */
+  private final Map<String, Object> buildValues = new ConcurrentHashMap<String, Object>();
+
   protected AbstractEclipseBuildContext(Map<String, Object> context,
       IIncrementalBuildFramework.BuildResultCollector results) {
     this.context = context;
@@ -126,6 +132,73 @@ public abstract class AbstractEclipseBuildContext implements BuildContext, IIncr
         && targetResource.getLocalTimeStamp() >= sourceResource.getLocalTimeStamp();
   }
 
+  /**
+   * Returns value set by {@link #setBuildValue(String, Object)} during this build. Unlike {@link #getValue(String)},
+   * build values are not kept between builds.
+   *
+   * @since 1.10
+   */
+  public Object getBuildValue(String key) {
+    return buildValues.get(key);
+  }
+
+  /**
+   * @since 1.10
+   */
+  public void setBuildValue(String key, Object value) {
+    buildValues.put(key, value);
+  }
+
+  /**
+   * Starts recording of the locations accessed through this build context.
+   *
+   * @since 1.10
+   */
+  public void startInputRecording() {
+    recordedInputs = new BuildInputs();
+  }
+
+  /**
+   * Stops recording of the locations accessed through this build context and returns recorded locations.
+   *
+   * @since 1.10
+   */
+  public BuildInputs stopInputRecording(String fingerprint) {
+    BuildInputs inputs = recordedInputs;
+    recordedInputs = null;
+    if(inputs != null) {
+      inputs.setFingerprint(fingerprint);
+    }
+    return inputs;
+  }
+
+  /**
+   * Returns {@code true} if locations accessed through this build context are being recorded.
+   */
+  protected boolean isRecordingInputs() {
+    return recordedInputs != null;
+  }
+
+  /**
+   * Records location accessed through this build context. {@code null} path means the location could not be
+   * determined.
+   */
+  protected void recordInput(IPath path) {
+    BuildInputs inputs = recordedInputs;
+    if(inputs != null) {
+      inputs.add(path);
+    }
+  }
+
+  /**
+   * Returns {@code true} if any of the given inputs has changed since the previous build.
+   *
+   * @since 1.10
+   */
+  public boolean hasDelta(BuildInputs inputs) {
+    return true;
+  }
+
   @Override
   public void release() {
     ThreadBuildContext.setThreadBuildContext(null);
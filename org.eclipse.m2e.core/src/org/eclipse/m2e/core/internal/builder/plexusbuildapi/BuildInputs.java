@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder.plexusbuildapi;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+
+
+/**
+ * Project relative locations a mojo execution accessed through {@link org.sonatype.plexus.build.incremental.BuildContext}
+ * during a build, together with fingerprint of the other mojo execution inputs, i.e. its configuration, the project
+ * model and the dependencies.
+ *
+ * @since 1.10
+ */
+public class BuildInputs {
+
+  private final Set<IPath> paths = new LinkedHashSet<IPath>();
+
+  private boolean unknown;
+
+  private String fingerprint;
+
+  synchronized void add(IPath path) {
+    if(path == null) {
+      // the location is outside of the project or cannot be determined
+      unknown = true;
+    } else {
+      paths.add(path);
+    }
+  }
+
+  void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
+  /**
+   * Returns {@code true} if inputs are fully known, i.e. all recorded locations are within the project and at least
+   * one location was recorded.
+   */
+  public synchronized boolean isKnown() {
+    return !unknown && !paths.isEmpty();
+  }
+
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public synchronized Set<IPath> getPaths() {
+    return Collections.unmodifiableSet(new LinkedHashSet<IPath>(paths));
+  }
+}
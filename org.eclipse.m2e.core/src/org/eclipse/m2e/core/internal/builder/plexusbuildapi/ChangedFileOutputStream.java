@@ -13,32 +13,52 @@ package org.eclipse.m2e.core.internal.builder.plexusbuildapi;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
 
 
 /**
- * Writes to the file only if content of the file is different. TODO. Current implementation defers actual writing to
- * the output file until invocation of {@link #close()} method. This results in missed/ignored IOExceptions in some
- * cases. First, {@link #flush()} method does not actually flush buffer to the disk. Second, any problems writing to the
- * file will be reported as IOException thrown by {@link #close()}, which are generally ignored.
+ * Writes to the file only if content of the file is different.
+ * <p>
+ * New content is compared with the content of the existing file as it is written, without buffering it in memory. The
+ * existing file is left untouched as long as the content matches. On the first difference, the matching prefix and
+ * the rest of the new content are written to a temporary file, which replaces the existing file when the stream is
+ * closed. If the file does not exist, the content is written to the file directly.
  */
 public class ChangedFileOutputStream extends OutputStream {
 
+  private static final int BUFFER_SIZE = 8192;
+
   private final File file;
 
   private final BuildContext buildContext;
 
-  private final OutputStream os;
+  /** existing file content, {@code null} if the file did not exist or once a difference is found */
+  private InputStream existing;
+
+  /** number of bytes matching the existing file content */
+  private long position;
+
+  private byte[] compareBuffer;
 
-  private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  /** output stream, {@code null} as long as the new content matches the existing file */
+  private OutputStream os;
+
+  /** temporary file the new content is written to, if the file exists */
+  private File tmpFile;
+
+  private boolean closed;
 
   public ChangedFileOutputStream(File file) throws FileNotFoundException {
     this(file, null);
@@ -47,58 +67,149 @@ public class ChangedFileOutputStream extends OutputStream {
   public ChangedFileOutputStream(File file, BuildContext buildContext) throws FileNotFoundException {
     this.file = file;
     this.buildContext = buildContext;
-    this.os = new BufferedOutputStream(new FileOutputStream(file));
+    if(file.isFile()) {
+      this.existing = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+    } else {
+      this.os = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+    }
   }
 
-  public void write(int b) {
-    buffer.write(b);
+  public void write(int b) throws IOException {
+    if(os == null) {
+      if(existing.read() == (b & 0xFF)) {
+        position++ ;
+        return;
+      }
+      startWriting();
+    }
+    os.write(b);
   }
 
-  public void write(byte[] b, int off, int len) {
-    buffer.write(b, off, len);
+  public void write(byte[] b, int off, int len) throws IOException {
+    if(os == null) {
+      int matched = compare(b, off, len);
+      position += matched;
+      if(matched == len) {
+        return;
+      }
+      startWriting();
+      off += matched;
+      len -= matched;
+    }
+    os.write(b, off, len);
   }
 
-  public void close() throws IOException {
-    try {
-      writeIfNewOrChanged();
-    } finally {
-      os.close();
+  /**
+   * Returns number of leading bytes of the given array that match the existing file content at current position.
+   */
+  private int compare(byte[] b, int off, int len) throws IOException {
+    if(compareBuffer == null) {
+      compareBuffer = new byte[BUFFER_SIZE];
+    }
+    int matched = 0;
+    while(matched < len) {
+      int n = existing.read(compareBuffer, 0, Math.min(len - matched, compareBuffer.length));
+      if(n < 0) {
+        return matched;
+      }
+      for(int i = 0; i < n; i++ ) {
+        if(compareBuffer[i] != b[off + matched + i]) {
+          return matched + i;
+        }
+      }
+      matched += n;
     }
+    return matched;
   }
 
-  protected void writeIfNewOrChanged() throws IOException {
-    byte[] bytes = buffer.toByteArray();
-
-    boolean needToWrite = false;
-
-    // XXX harden
-    if(file.exists()) {
-      BufferedInputStream is = new BufferedInputStream(new FileInputStream(file));
+  /**
+   * Switches to writing to a temporary file, starting with the part of the existing file that matched new content.
+   */
+  private void startWriting() throws IOException {
+    existing.close();
+    existing = null;
+    compareBuffer = null;
+
+    tmpFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile()); //$NON-NLS-1$
+    os = new BufferedOutputStream(new FileOutputStream(tmpFile), BUFFER_SIZE);
+    if(position > 0) {
+      InputStream is = new FileInputStream(file);
       try {
-        for(int i = 0; i < bytes.length; i++ ) {
-          if(bytes[i] != is.read()) {
-            needToWrite = true;
-            break;
+        byte[] buf = new byte[BUFFER_SIZE];
+        long remaining = position;
+        while(remaining > 0) {
+          int n = is.read(buf, 0, (int) Math.min(remaining, buf.length));
+          if(n < 0) {
+            throw new IOException("File changed while being written " + file); //$NON-NLS-1$
           }
+          os.write(buf, 0, n);
+          remaining -= n;
         }
       } finally {
-        try {
-          is.close();
-        } catch(IOException e) {
-
-        }
+        is.close();
       }
-    } else {
-      // file does not exist
-      needToWrite = true;
     }
+  }
+
+  public void flush() throws IOException {
+    if(os != null) {
+      os.flush();
+    }
+  }
+
+  public void close() throws IOException {
+    if(closed) {
+      return;
+    }
+    closed = true;
 
-    if(needToWrite) {
+    boolean success = false;
+    try {
+      if(os == null && existing.read() >= 0) {
+        // new content is a prefix of the existing content
+        startWriting();
+      }
+      if(existing != null) {
+        // unchanged
+        existing.close();
+        success = true;
+        return;
+      }
+      os.close();
+      if(tmpFile != null) {
+        replace(tmpFile, file);
+      }
+      success = true;
       if(buildContext != null) {
         buildContext.refresh(file);
       }
+    } finally {
+      if(!success) {
+        closeQuietly(existing);
+        closeQuietly(os);
+        if(tmpFile != null) {
+          tmpFile.delete();
+        }
+      }
+    }
+  }
 
-      os.write(bytes);
+  private static void replace(File source, File target) throws IOException {
+    try {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch(AtomicMoveNotSupportedException ex) {
+      Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if(closeable != null) {
+      try {
+        closeable.close();
+      } catch(IOException e) {
+        // ignore
+      }
     }
   }
 }
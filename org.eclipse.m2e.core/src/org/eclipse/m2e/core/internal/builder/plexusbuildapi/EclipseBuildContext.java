@@ -18,6 +18,7 @@ import java.util.Map;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.osgi.util.NLS;
 
 import org.codehaus.plexus.util.DirectoryScanner;
@@ -45,24 +46,31 @@ public class EclipseBuildContext extends AbstractEclipseBuildContext {
   }
 
   public boolean hasDelta(String relpath) {
+    recordInput(relpath != null ? new Path(relpath) : null);
     return true;
   }
 
-  @SuppressWarnings("rawtypes")
+  @SuppressWarnings({"unchecked", "rawtypes"})
   public boolean hasDelta(List relpath) {
+    for(String path : (List<String>) relpath) {
+      recordInput(path != null ? new Path(path) : null);
+    }
     return true;
   }
 
   public boolean hasDelta(File file) {
+    recordInput(getRelativePath(file));
     return true;
   }
 
   public Scanner newDeleteScanner(File basedir) {
+    recordInput(getRelativePath(basedir));
     return new EmptyScanner(basedir);
   }
 
   public Scanner newScanner(File basedir) {
     IPath relpath = getRelativePath(basedir);
+    recordInput(relpath);
     if(relpath != null) {
       IResource resource = project.findMember(relpath);
       return resource != null ? new ResourceScanner(resource) : new EmptyScanner(basedir);
@@ -18,6 +18,7 @@ import java.util.Map;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
 
@@ -33,6 +34,9 @@ public class EclipseIncrementalBuildContext extends AbstractEclipseBuildContext
 
   private final IResourceDelta delta;
 
+  /** lazily built index of the delta members, shared by all build participants of the build */
+  private volatile ResourceDeltaIndex deltaIndex;
+
   public EclipseIncrementalBuildContext(IResourceDelta delta, Map<String, Object> context,
       IIncrementalBuildFramework.BuildResultCollector results) {
     super(context, results);
@@ -40,12 +44,47 @@ public class EclipseIncrementalBuildContext extends AbstractEclipseBuildContext
   }
 
   public boolean hasDelta(String relPath) {
-    IPath path = new Path(relPath);
-    return hasDelta(path);
+    if(isRecordingInputs()) {
+      return hasDelta(new Path(relPath));
+    }
+    return delta == null || getDeltaIndex().contains(relPath);
   }
 
   protected boolean hasDelta(IPath path) {
-    return delta == null || path == null || delta.findMember(path) != null;
+    recordInput(path);
+    return delta == null || path == null || getDeltaIndex().contains(path);
+  }
+
+  private ResourceDeltaIndex getDeltaIndex() {
+    ResourceDeltaIndex index = deltaIndex;
+    if(index == null) {
+      synchronized(this) {
+        index = deltaIndex;
+        if(index == null) {
+          try {
+            index = new ResourceDeltaIndex(delta);
+          } catch(CoreException ex) {
+            throw new IllegalStateException(ex);
+          }
+          deltaIndex = index;
+        }
+      }
+    }
+    return index;
+  }
+
+  @Override
+  public boolean hasDelta(BuildInputs inputs) {
+    if(delta == null || !inputs.isKnown()) {
+      return true;
+    }
+    ResourceDeltaIndex index = getDeltaIndex();
+    for(IPath path : inputs.getPaths()) {
+      if(index.contains(path)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -63,6 +102,7 @@ public class EclipseIncrementalBuildContext extends AbstractEclipseBuildContext
   }
 
   public Scanner newDeleteScanner(File basedir) {
+    recordInput(getRelativePath(basedir));
     IResourceDelta reldelta = getDelta(basedir);
 
     if(reldelta == null || !isRemove(reldelta)) {
@@ -77,6 +117,7 @@ public class EclipseIncrementalBuildContext extends AbstractEclipseBuildContext
   }
 
   public Scanner newScanner(File basedir, boolean ignoreDelta) {
+    recordInput(getRelativePath(basedir));
     if(!ignoreDelta) {
       IResourceDelta reldelta = getDelta(basedir);
 
@@ -15,6 +15,7 @@ import static org.eclipse.core.resources.IncrementalProjectBuilder.AUTO_BUILD;
 import static org.eclipse.core.resources.IncrementalProjectBuilder.CLEAN_BUILD;
 import static org.eclipse.core.resources.IncrementalProjectBuilder.INCREMENTAL_BUILD;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -46,9 +47,9 @@ public class PlexusBuildAPI implements IIncrementalBuildFramework {
       buildContext = new EclipseIncrementalBuildContext(delta, contextState, results);
     } else if(CLEAN_BUILD == kind) {
       project.setSessionProperty(BUILD_CONTEXT_KEY, null); // clean context state
-      buildContext = new EclipseBuildContext(project, new HashMap<String, Object>(), results);
+      buildContext = new EclipseBuildContext(project, newContextState(), results);
     } else {
-      contextState = new HashMap<String, Object>();
+      contextState = newContextState();
       project.setSessionProperty(BUILD_CONTEXT_KEY, contextState);
       if(AbstractBuildParticipant2.PRECONFIGURE_BUILD == kind) {
         buildContext = new EclipseEmptyBuildContext(project, contextState, results);
@@ -61,4 +62,9 @@ public class PlexusBuildAPI implements IIncrementalBuildFramework {
     return buildContext;
   }
 
+  private static Map<String, Object> newContextState() {
+    // thread safe build participants of the same project access the state concurrently
+    return Collections.synchronizedMap(new HashMap<String, Object>());
+  }
+
 }
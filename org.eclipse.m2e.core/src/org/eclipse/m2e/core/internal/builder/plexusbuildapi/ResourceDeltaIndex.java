@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder.plexusbuildapi;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+
+/**
+ * Set of paths of all members of a resource delta, relative to the delta resource. Answers the same question as
+ * {@code delta.findMember(path) != null}, but without walking the delta tree for each query and, for already
+ * canonical relative paths, without allocating.
+ *
+ * @since 1.10
+ */
+class ResourceDeltaIndex {
+
+  private static final int MEMBER_FLAGS = IContainer.INCLUDE_PHANTOMS | IContainer.INCLUDE_HIDDEN
+      | IContainer.INCLUDE_TEAM_PRIVATE_MEMBERS;
+
+  private final Set<String> paths = new HashSet<String>();
+
+  public ResourceDeltaIndex(IResourceDelta delta) throws CoreException {
+    final int rootSegments = delta.getFullPath().segmentCount();
+    delta.accept(new IResourceDeltaVisitor() {
+      public boolean visit(IResourceDelta member) {
+        paths.add(member.getFullPath().removeFirstSegments(rootSegments).toString());
+        return true;
+      }
+    }, MEMBER_FLAGS);
+  }
+
+  public boolean contains(IPath path) {
+    return paths.contains(path.makeRelative().removeTrailingSeparator().toString());
+  }
+
+  public boolean contains(String relPath) {
+    if(!isCanonical(relPath)) {
+      return contains(new Path(relPath));
+    }
+    return paths.contains(relPath);
+  }
+
+  /**
+   * Returns {@code true} if the path is relative, does not have trailing separator and does not need any of the
+   * normalizations performed by {@link Path}, i.e. it is already in the form stored in the index.
+   */
+  static boolean isCanonical(String path) {
+    int length = path.length();
+    if(length == 0) {
+      return true;
+    }
+    if(path.charAt(0) == '/' || path.charAt(length - 1) == '/') {
+      return false;
+    }
+    int segmentStart = 0;
+    for(int i = 0; i <= length; i++ ) {
+      char c = i < length ? path.charAt(i) : '/';
+      if(c == '\\' || c == ':') {
+        // platform specific separators and devices
+        return false;
+      }
+      if(c == '/') {
+        int segmentLength = i - segmentStart;
+        if(segmentLength == 0) {
+          // double separator
+          return false;
+        }
+        if(path.charAt(segmentStart) == '.'
+            && (segmentLength == 1 || (segmentLength == 2 && path.charAt(segmentStart + 1) == '.'))) {
+          return false;
+        }
+        segmentStart = i + 1;
+      }
+    }
+    return true;
+  }
+}
@@ -33,6 +33,8 @@ public class ResourceDeltaScanner extends AbstractScanner {
 
   protected final List<String> includedFiles = new ArrayList<String>();
 
+  private ScannerPatterns patterns;
+
   protected final boolean deleted;
 
   public ResourceDeltaScanner(IResourceDelta delta, boolean deleted) {
@@ -51,7 +53,7 @@ public class ResourceDeltaScanner extends AbstractScanner {
   public void scan() {
     try {
       setupDefaultFilters();
-      setupMatchPatterns();
+      patterns = ScannerPatterns.get(includes, excludes, isCaseSensitive);
       scanDelta();
     } catch(CoreException e) {
       // TODO Auto-generated catch block
@@ -74,7 +76,8 @@ public class ResourceDeltaScanner extends AbstractScanner {
           }
           return true;
         } else if(delta.getResource() instanceof IFolder) {
-          return couldHoldIncluded(relpath);
+          // do not descend into directories that cannot have selected members, like excluded subtrees
+          return patterns.couldHoldSelected(relpath);
         }
 
         return false;
@@ -92,6 +95,21 @@ public class ResourceDeltaScanner extends AbstractScanner {
     return delta.getFullPath().removeFirstSegments(this.delta.getFullPath().segmentCount()).toOSString();
   }
 
+  @Override
+  protected boolean isIncluded(String name) {
+    return patterns.isIncluded(name);
+  }
+
+  @Override
+  protected boolean isExcluded(String name) {
+    return patterns.isExcluded(name);
+  }
+
+  @Override
+  protected boolean couldHoldIncluded(String name) {
+    return patterns.couldHoldIncluded(name);
+  }
+
   public File getBasedir() {
     return delta.getResource().getLocation().toFile();
   }
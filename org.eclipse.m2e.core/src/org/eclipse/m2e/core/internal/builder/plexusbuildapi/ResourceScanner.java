@@ -37,6 +37,8 @@ public class ResourceScanner extends AbstractScanner {
 
   protected final List<String> includedFiles = new ArrayList<String>();
 
+  private ScannerPatterns patterns;
+
   public ResourceScanner(IResource resource) {
     this.resource = resource;
   }
@@ -52,7 +54,7 @@ public class ResourceScanner extends AbstractScanner {
   public void scan() {
     try {
       setupDefaultFilters();
-      setupMatchPatterns();
+      patterns = ScannerPatterns.get(includes, excludes, isCaseSensitive);
       scanResource();
     } catch(CoreException e) {
       // TODO Auto-generated catch block
@@ -73,7 +75,8 @@ public class ResourceScanner extends AbstractScanner {
           }
           return true;
         } else if(resource instanceof IFolder) {
-          return couldHoldIncluded(relpath);
+          // do not descend into directories that cannot have selected members, like excluded subtrees
+          return patterns.couldHoldSelected(relpath);
         }
 
         return false;
@@ -86,6 +89,21 @@ public class ResourceScanner extends AbstractScanner {
     return resource.getFullPath().removeFirstSegments(this.resource.getFullPath().segmentCount()).toOSString();
   }
 
+  @Override
+  protected boolean isIncluded(String name) {
+    return patterns.isIncluded(name);
+  }
+
+  @Override
+  protected boolean isExcluded(String name) {
+    return patterns.isExcluded(name);
+  }
+
+  @Override
+  protected boolean couldHoldIncluded(String name) {
+    return patterns.couldHoldIncluded(name);
+  }
+
   public File getBasedir() {
     return resource.getLocation().toFile();
   }
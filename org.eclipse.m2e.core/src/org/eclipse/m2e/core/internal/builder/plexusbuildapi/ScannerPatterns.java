@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.builder.plexusbuildapi;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.util.MatchPatterns;
+
+
+/**
+ * Parsed scanner include and exclude patterns. Instances are immutable and shared by all scanners that use the same
+ * patterns.
+ *
+ * @since 1.10
+ */
+class ScannerPatterns {
+
+  private static final int CACHE_SIZE = 64;
+
+  private static final String RECURSIVE_SUFFIX = File.separator + "**"; //$NON-NLS-1$
+
+  private static final Map<List<Object>, ScannerPatterns> cache = new LinkedHashMap<List<Object>, ScannerPatterns>(
+      16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    protected boolean removeEldestEntry(Map.Entry<List<Object>, ScannerPatterns> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  private final MatchPatterns includes;
+
+  private final MatchPatterns excludes;
+
+  /** directories matching any of these patterns only have excluded members */
+  private final MatchPatterns excludedDirectories;
+
+  private final boolean caseSensitive;
+
+  private ScannerPatterns(String[] includes, String[] excludes, boolean caseSensitive) {
+    this.includes = MatchPatterns.from(includes);
+    this.excludes = MatchPatterns.from(excludes);
+    List<String> excludedDirectories = new ArrayList<String>();
+    for(String exclude : excludes) {
+      if(exclude.endsWith(RECURSIVE_SUFFIX)) {
+        excludedDirectories.add(exclude.substring(0, exclude.length() - RECURSIVE_SUFFIX.length()));
+      }
+    }
+    this.excludedDirectories = MatchPatterns.from(excludedDirectories);
+    this.caseSensitive = caseSensitive;
+  }
+
+  /**
+   * Returns parsed patterns, from cache if the same patterns were parsed before. Patterns are expected to be normalized
+   * by {@link org.codehaus.plexus.util.AbstractScanner#setIncludes(String[])} and
+   * {@link org.codehaus.plexus.util.AbstractScanner#setExcludes(String[])}.
+   */
+  public static ScannerPatterns get(String[] includes, String[] excludes, boolean caseSensitive) {
+    List<Object> key = Arrays.<Object> asList(Arrays.asList(includes), Arrays.asList(excludes), caseSensitive);
+    synchronized(cache) {
+      ScannerPatterns patterns = cache.get(key);
+      if(patterns == null) {
+        patterns = new ScannerPatterns(includes, excludes, caseSensitive);
+        cache.put(key, patterns);
+      }
+      return patterns;
+    }
+  }
+
+  public boolean isIncluded(String name) {
+    return includes.matches(name, caseSensitive);
+  }
+
+  public boolean isExcluded(String name) {
+    return excludes.matches(name, caseSensitive);
+  }
+
+  public boolean couldHoldIncluded(String name) {
+    return includes.matchesPatternStart(name, caseSensitive);
+  }
+
+  /**
+   * Returns {@code true} if the directory with the given relative path is worth visiting, i.e. if it may contain
+   * members that are included and not excluded.
+   */
+  public boolean couldHoldSelected(String name) {
+    return couldHoldIncluded(name) && !excludedDirectories.matches(name, caseSensitive);
+  }
+}
@@ -11,7 +11,9 @@
 
 package org.eclipse.m2e.core.internal.embedder;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
@@ -35,13 +37,27 @@ import org.eclipse.m2e.core.internal.Messages;
 abstract class AbstractTransferListenerAdapter {
   private static final Logger log = LoggerFactory.getLogger(AbstractTransferListenerAdapter.class);
 
+  /**
+   * Minimal interval between two progress updates of the same transfer, in milliseconds.
+   */
+  private static final long PROGRESS_INTERVAL = 200L;
+
   protected final MavenImpl maven;
 
   protected final IProgressMonitor monitor;
 
+  /** thread that created this listener, transfers are recorded in its active {@link TransferMetrics} recordings */
+  private final Thread owner = Thread.currentThread();
+
   //The same TransferListener monitors parallel downloads
   protected Map<String, Long> progressMap = new ConcurrentHashMap<String, Long>();
 
+  private final Map<String, Long> lastProgressMap = new ConcurrentHashMap<String, Long>();
+
+  private final Map<String, Long> startTimeMap = new ConcurrentHashMap<String, Long>();
+
+  private final Set<String> failedTransfers = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
   private static final String[] units = {Messages.AbstractTransferListenerAdapter_byte,
       Messages.AbstractTransferListenerAdapter_kb, Messages.AbstractTransferListenerAdapter_mb};
 
@@ -59,20 +75,24 @@ abstract class AbstractTransferListenerAdapter {
     sb.append(units[i]);
   }
 
-  protected void transferInitiated(String artifactUrl) {
+  protected void transferInitiated(String repository, String artifactUrl) {
     if(monitor.isCanceled()) {
       throw new OperationCanceledException(Messages.AbstractTransferListenerAdapter_cancelled);
     }
 
     if(artifactUrl != null) {
+      if(failedTransfers.remove(artifactUrl)) {
+        maven.getTransferMetrics().transferRetried(owner, repository);
+      }
       monitor.subTask(artifactUrl);
     }
   }
 
-  protected void transferStarted(String artifactUrl) {
-    log.info(NLS.bind("Downloading {0}", artifactUrl));
+  protected void transferStarted(String artifactUrl, String label) {
+    log.info(NLS.bind("Downloading {0}", label));
+    startTimeMap.put(artifactUrl, System.currentTimeMillis());
     // monitor.beginTask("0% "+e.getWagon().getRepository()+"/"+e.getResource().getName(), IProgressMonitor.UNKNOWN);
-    monitor.subTask(NLS.bind(Messages.AbstractTransferListenerAdapter_4, artifactUrl));
+    monitor.subTask(NLS.bind(Messages.AbstractTransferListenerAdapter_4, label));
   }
 
   protected void transferProgress(String artifactUrl, long total, int length) throws OperationCanceledException {
@@ -85,6 +105,14 @@ abstract class AbstractTransferListenerAdapter {
     complete += length;
     progressMap.put(artifactUrl, complete);
 
+    // progress callbacks arrive for every buffer, do not flood progress monitor with updates
+    long now = System.currentTimeMillis();
+    Long lastProgress = lastProgressMap.get(artifactUrl);
+    if(lastProgress != null && now - lastProgress.longValue() < PROGRESS_INTERVAL && complete != total) {
+      return;
+    }
+    lastProgressMap.put(artifactUrl, now);
+
     StringBuilder sb = new StringBuilder();
 
     formatBytes(complete, sb);
@@ -102,18 +130,37 @@ abstract class AbstractTransferListenerAdapter {
     monitor.subTask(sb.toString() + artifactUrl);
   }
 
-  protected void transferCompleted(String artifactUrl) {
+  protected void transferCompleted(String repository, String artifactUrl) {
     log.info(NLS.bind("Downloaded {0}", artifactUrl));
 
     // monitor.subTask("100% "+e.getWagon().getRepository()+"/"+e.getResource().getName());
     monitor.subTask(""); //$NON-NLS-1$
-    progressMap.remove(artifactUrl);
+    Long bytes = progressMap.remove(artifactUrl);
+    maven.getTransferMetrics().transferSucceeded(owner, repository, bytes != null ? bytes.longValue() : 0L,
+        getDuration(artifactUrl));
+  }
+
+  protected void transferFailed(String repository, String artifactUrl) {
+    monitor.subTask(""); //$NON-NLS-1$
+    Long bytes = progressMap.remove(artifactUrl);
+    failedTransfers.add(artifactUrl);
+    maven.getTransferMetrics().transferFailed(owner, repository, bytes != null ? bytes.longValue() : 0L,
+        getDuration(artifactUrl));
   }
 
-  protected void transferError(String artifactUrl, Exception exception) {
+  protected void transferError(String repository, String artifactUrl, Exception exception) {
     log.error(NLS.bind("Unable to download {0} : {1}", artifactUrl, exception));
     monitor.subTask(NLS.bind(Messages.AbstractTransferListenerAdapter_subtask, artifactUrl));
-    progressMap.remove(artifactUrl);
+    Long bytes = progressMap.remove(artifactUrl);
+    failedTransfers.add(artifactUrl);
+    maven.getTransferMetrics().transferFailed(owner, repository, bytes != null ? bytes.longValue() : 0L,
+        getDuration(artifactUrl));
+  }
+
+  private long getDuration(String artifactUrl) {
+    lastProgressMap.remove(artifactUrl);
+    Long startTime = startTimeMap.remove(artifactUrl);
+    return startTime != null ? System.currentTimeMillis() - startTime.longValue() : 0L;
   }
 
 }
@@ -31,7 +31,7 @@ public class ArtifactTransferListenerAdapter extends AbstractTransferListenerAda
 
   public void transferInitiated(TransferEvent event) throws TransferCancelledException {
     try {
-      transferInitiated(event.getResource().getRepositoryUrl() + event.getResource().getResourceName());
+      transferInitiated(event.getResource().getRepositoryUrl(), getArtifactUrl(event));
     } catch(OperationCanceledException e) {
       throw new TransferCancelledException();
     }
@@ -39,7 +39,7 @@ public class ArtifactTransferListenerAdapter extends AbstractTransferListenerAda
 
   public void transferProgressed(TransferEvent event) throws TransferCancelledException {
     long total = event.getResource().getContentLength();
-    String artifactUrl = event.getResource().getRepositoryUrl() + event.getResource().getResourceName();
+    String artifactUrl = getArtifactUrl(event);
 
     try {
       transferProgress(artifactUrl, total, event.getDataBuffer().remaining());
@@ -49,18 +49,23 @@ public class ArtifactTransferListenerAdapter extends AbstractTransferListenerAda
   }
 
   public void transferStarted(TransferEvent event) {
-    transferStarted(event.getResource().getRepositoryUrl() + event.getResource().getResourceName());
+    String artifactUrl = getArtifactUrl(event);
+    transferStarted(artifactUrl, artifactUrl);
   }
 
   public void transferCorrupted(TransferEvent event) {
   }
 
   public void transferSucceeded(TransferEvent event) {
-    transferCompleted(event.getResource().getRepositoryUrl() + event.getResource().getResourceName());
+    transferCompleted(event.getResource().getRepositoryUrl(), getArtifactUrl(event));
   }
 
   public void transferFailed(TransferEvent event) {
-    transferCompleted(event.getResource().getRepositoryUrl() + event.getResource().getResourceName());
+    transferFailed(event.getResource().getRepositoryUrl(), getArtifactUrl(event));
+  }
+
+  private static String getArtifactUrl(TransferEvent event) {
+    return event.getResource().getRepositoryUrl() + event.getResource().getResourceName();
   }
 
 }
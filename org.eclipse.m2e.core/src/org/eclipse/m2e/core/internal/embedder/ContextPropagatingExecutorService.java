@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Executor service that runs submitted tasks with Maven execution context of the submitting thread.
+ *
+ * @see MavenExecutionContext#wrap(ExecutorService)
+ * @since 1.10
+ */
+class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService delegate;
+
+  public ContextPropagatingExecutorService(ExecutorService delegate) {
+    this.delegate = delegate;
+  }
+
+  public void execute(Runnable command) {
+    delegate.execute(MavenExecutionContext.wrap(command));
+  }
+
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+}
@@ -20,6 +20,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.aether.transfer.TransferListener;
 import org.eclipse.core.runtime.CoreException;
@@ -55,6 +58,17 @@ public class MavenExecutionContext implements IMavenExecutionContext {
 
   private static final String CTX_REPOSITORYSESSION = CTX_PREFIX + "/repositorySession";
 
+  /**
+   * Thread that created Maven session of the context. Maven session and repository session are not thread safe and can
+   * only be modified by this thread.
+   */
+  private static final String CTX_SESSIONOWNER = CTX_PREFIX + "/sessionOwner";
+
+  /**
+   * Number of tasks currently running on other threads with Maven session of the context.
+   */
+  private static final String CTX_PROPAGATEDTASKS = CTX_PREFIX + "/propagatedTasks";
+
   private static final ThreadLocal<Deque<MavenExecutionContext>> threadLocal = new ThreadLocal<Deque<MavenExecutionContext>>();
 
   private final MavenImpl maven;
@@ -127,13 +141,15 @@ public class MavenExecutionContext implements IMavenExecutionContext {
       maven.populateDefaults(request);
       populateSystemProperties(request);
       setValue(CTX_LOCALREPOSITORY, request.getLocalRepository());
-      final FilterRepositorySystemSession repositorySession = maven.createRepositorySession(request);
+      final FilterRepositorySystemSession repositorySession = maven.getRepositorySession(request);
       setValue(CTX_REPOSITORYSESSION, repositorySession);
       if(parent != null) {
         repositorySession.setData(parent.getRepositorySession().getData());
       }
       final MavenExecutionResult result = new DefaultMavenExecutionResult();
       setValue(CTX_MAVENSESSION, new MavenSession(maven.getPlexusContainer(), repositorySession, request, result));
+      setValue(CTX_SESSIONOWNER, Thread.currentThread());
+      setValue(CTX_PROPAGATEDTASKS, new AtomicInteger());
     }
 
     final LegacySupport legacySupport = maven.lookup(LegacySupport.class);
@@ -162,7 +178,15 @@ public class MavenExecutionContext implements IMavenExecutionContext {
   }
 
   private <V> V executeBare(MavenProject project, ICallable<V> callable, IProgressMonitor monitor) throws CoreException {
+    final Thread owner = getValue(CTX_SESSIONOWNER);
+    if(owner != Thread.currentThread()) {
+      return executePropagated(owner, project, callable, monitor);
+    }
     final MavenSession mavenSession = getSession();
+    if(project != null && project != mavenSession.getCurrentProject()
+        && this.<AtomicInteger> getValue(CTX_PROPAGATEDTASKS).get() > 0) {
+      throw new IllegalStateException("Cannot change current project of Maven session used by other threads"); //$NON-NLS-1$
+    }
     final FilterRepositorySystemSession repositorySession = getRepositorySession();
     final TransferListener origTransferListener = repositorySession.setTransferListener(maven
         .createArtifactTransferListener(monitor));
@@ -185,6 +209,24 @@ public class MavenExecutionContext implements IMavenExecutionContext {
     }
   }
 
+  /**
+   * Executes callable on a thread the context was propagated to. Maven session and repository session are owned by the
+   * thread that entered the context and are not thread safe, so they are used as-is and never modified here.
+   */
+  private <V> V executePropagated(Thread owner, MavenProject project, ICallable<V> callable, IProgressMonitor monitor)
+      throws CoreException {
+    if(project != null && project != getSession().getCurrentProject()) {
+      throw new IllegalStateException("Cannot change current project of Maven session owned by another thread " //$NON-NLS-1$
+          + owner.getName());
+    }
+    final ClassLoader origTCCL = Thread.currentThread().getContextClassLoader();
+    try {
+      return callable.call(this, monitor);
+    } finally {
+      Thread.currentThread().setContextClassLoader(origTCCL);
+    }
+  }
+
   public MavenSession getSession() {
     if(context == null) {
       throw new IllegalStateException();
@@ -218,13 +260,29 @@ public class MavenExecutionContext implements IMavenExecutionContext {
     return stack != null ? (innermost ? stack.peekFirst() : stack.peekLast()) : null;
   }
 
+  /**
+   * Returns the thread that owns the Maven session of the innermost execution context of the current thread, i.e. the
+   * current thread or the thread the context was propagated from, or {@code null} if there is no active context.
+   */
+  static Thread getThreadSessionOwner() {
+    MavenExecutionContext context = getThreadContext();
+    return context != null && context.context != null ? context.<Thread> getValue(CTX_SESSIONOWNER) : null;
+  }
+
   public static void populateSystemProperties(MavenExecutionRequest request) {
     // temporary solution for https://issues.sonatype.org/browse/MNGECLIPSE-1607
     // oddly, there are no unit tests that fail if this is commented out
     Properties systemProperties = new Properties();
+    populateSystemProperties(systemProperties);
+    request.setSystemProperties(systemProperties);
+  }
+
+  /**
+   * Adds environment variables and system properties to the given properties.
+   */
+  static void populateSystemProperties(Properties systemProperties) {
     EnvironmentUtils.addEnvVars(systemProperties);
     copyProperties(systemProperties, System.getProperties());
-    request.setSystemProperties(systemProperties);
   }
 
   /*
@@ -275,6 +333,105 @@ public class MavenExecutionContext implements IMavenExecutionContext {
     threadLocal.set(queue);
   }
 
+  /**
+   * Returns {@link Runnable} that runs the given runnable with Maven execution context of the current thread, if any.
+   * Captured context must remain active, i.e. the current thread must not leave
+   * {@link #execute(MavenProject, ICallable, IProgressMonitor)}, until the returned runnable completes.
+   *
+   * @see #wrap(Callable)
+   * @since 1.10
+   */
+  public static Runnable wrap(final Runnable runnable) {
+    final Callable<Void> callable = wrap(new Callable<Void>() {
+      public Void call() {
+        runnable.run();
+        return null;
+      }
+    });
+    return new Runnable() {
+      public void run() {
+        try {
+          callable.call();
+        } catch(RuntimeException e) {
+          throw e;
+        } catch(Exception e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Returns {@link Callable} that calls the given callable with Maven execution context of the current thread, if any.
+   * The worker thread shares Maven session and repository session of the captured context. These objects are not
+   * thread safe and are never modified on the worker thread, in particular, attempts to switch current project of the
+   * shared Maven session from the worker thread result in {@link IllegalStateException}. For the same reason, the
+   * thread that owns the session cannot switch its current project while propagated callables run, such attempts
+   * result in {@link IllegalStateException} as well.
+   *
+   * @since 1.10
+   */
+  public static <V> Callable<V> wrap(final Callable<V> callable) {
+    final Deque<MavenExecutionContext> stack = threadLocal.get();
+    if(stack == null || stack.isEmpty()) {
+      return callable;
+    }
+    final Deque<MavenExecutionContext> captured = new ArrayDeque<MavenExecutionContext>(stack);
+    return new Callable<V>() {
+      public V call() throws Exception {
+        return callPropagated(captured, callable);
+      }
+    };
+  }
+
+  /**
+   * Returns {@link ExecutorService} that propagates Maven execution context of the submitting thread to the tasks
+   * executed by the given executor service. Threads of the given executor service must be created by
+   * {@link WorkerThreadFactory}, otherwise they may change Maven session of the threads that created them.
+   *
+   * @see #wrap(Callable)
+   * @since 1.10
+   */
+  public static ExecutorService wrap(ExecutorService executor) {
+    return new ContextPropagatingExecutorService(executor);
+  }
+
+  static <V> V callPropagated(Deque<MavenExecutionContext> captured, Callable<V> callable) throws Exception {
+    final MavenExecutionContext context = captured.peek();
+    if(context.context == null) {
+      throw new IllegalStateException("Maven execution context is not active"); //$NON-NLS-1$
+    }
+    final MavenSession session = context.getSession();
+    final LegacySupport legacySupport = context.maven.lookup(LegacySupport.class);
+    final SessionScope sessionScope = context.maven.lookup(SessionScope.class);
+
+    final Deque<MavenExecutionContext> origStack = suspend();
+    final MavenSession origLegacySession = legacySupport.getSession();
+    // LegacySupport clears the session reference shared with the thread that created this thread when the session is
+    // changed, leave the session alone if it is already the right one. see WorkerThreadFactory
+    final boolean setLegacySession = origLegacySession != session;
+    final ClassLoader origTCCL = Thread.currentThread().getContextClassLoader();
+    final AtomicInteger propagatedTasks = context.getValue(CTX_PROPAGATEDTASKS);
+    propagatedTasks.incrementAndGet();
+    threadLocal.set(new ArrayDeque<MavenExecutionContext>(captured));
+    if(setLegacySession) {
+      legacySupport.setSession(session);
+    }
+    sessionScope.enter();
+    sessionScope.seed(MavenSession.class, session);
+    try {
+      return callable.call();
+    } finally {
+      sessionScope.exit();
+      if(setLegacySession) {
+        legacySupport.setSession(origLegacySession);
+      }
+      Thread.currentThread().setContextClassLoader(origTCCL);
+      threadLocal.set(origStack);
+      propagatedTasks.decrementAndGet();
+    }
+  }
+
   /**
    * @since 1.5
    */
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
@@ -169,6 +170,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.NoSuchComponentException;
 import org.eclipse.m2e.core.internal.preferences.MavenPreferenceConstants;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
 
 
 public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
@@ -179,8 +181,29 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
    */
   public static final String MAVEN_CORE_REALM_ID = "plexus.core"; //$NON-NLS-1$
 
+  /**
+   * MavenProject context key of evaluated mojo parameter values cache.
+   */
+  private static final String CTX_MOJO_PARAMETER_VALUES = MavenImpl.class.getName()
+      + "/mojoParameterValues"; //$NON-NLS-1$
+
+  /**
+   * Parameter expression roots evaluated from the project or the mojo execution only.
+   */
+  private static final String[] PROJECT_EXPRESSION_PREFIXES = {"project", "pom", //$NON-NLS-1$ //$NON-NLS-2$
+      "basedir", "plugin", "mojoExecution", "mojo"}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+  /**
+   * Represents cached {@code null} mojo parameter value.
+   */
+  private static final Object NULL_PARAMETER_VALUE = new Object();
+
   private DefaultPlexusContainer plexus;
 
+  private final TransferMetrics transferMetrics = new TransferMetrics();
+
+  private final RepositorySessionPool sessionPool = new RepositorySessionPool();
+
   private final IMavenConfiguration mavenConfiguration;
 
   private final ConverterLookup converterLookup = new DefaultConverterLookup();
@@ -217,6 +240,15 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
   }
 
   /*package*/MavenExecutionRequest createExecutionRequest() throws CoreException {
+    MavenExecutionRequest request = sessionPool.getExecutionRequest();
+    if(request == null) {
+      request = newExecutionRequest();
+      sessionPool.putExecutionRequest(request);
+    }
+    return request;
+  }
+
+  private MavenExecutionRequest newExecutionRequest() throws CoreException {
     MavenExecutionRequest request = new DefaultMavenExecutionRequest();
 
     // this causes problems with unexpected "stale project configuration" error markers
@@ -303,6 +335,39 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     return mavenSession;
   }
 
+  /**
+   * Returns new repository session for the request, reusing configuration of an equivalent repository session created
+   * during the current workspace build, if any.
+   */
+  /*package*/FilterRepositorySystemSession getRepositorySession(MavenExecutionRequest request) {
+    String updatePolicy = request.isUpdateSnapshots() ? null : mavenConfiguration.getGlobalUpdatePolicy();
+    DefaultRepositorySystemSession session = sessionPool.getRepositorySession(request, updatePolicy,
+        lookupComponent(org.eclipse.aether.RepositorySystem.class));
+    if(session != null) {
+      return new FilterRepositorySystemSession(session, updatePolicy);
+    }
+    FilterRepositorySystemSession repositorySession = createRepositorySession(request);
+    sessionPool.putRepositorySession(request, updatePolicy, repositorySession.getSession());
+    return repositorySession;
+  }
+
+  /**
+   * Starts sharing of execution request and repository session setup among execution contexts, until matching
+   * {@link #exitBuildCycle()}. Invocations can be nested.
+   *
+   * @since 1.10
+   */
+  public void enterBuildCycle() {
+    sessionPool.activate();
+  }
+
+  /**
+   * @since 1.10
+   */
+  public void exitBuildCycle() {
+    sessionPool.deactivate();
+  }
+
   /*package*/FilterRepositorySystemSession createRepositorySession(MavenExecutionRequest request) {
     try {
       DefaultRepositorySystemSession session = (DefaultRepositorySystemSession) ((DefaultMaven) lookup(Maven.class))
@@ -340,6 +405,8 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
         if(snapshot != null) {
           snapshot.restore(project);
         }
+        // the mojo may have changed project state that is not restored
+        project.setContextValue(CTX_MOJO_PARAMETER_VALUES, null);
       }
     }
   }
@@ -527,6 +594,7 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
 
   public void reloadSettings() throws CoreException {
     Settings settings = getSettings(true);
+    sessionPool.clear();
     for(ISettingsChangeListener listener : settingsListeners) {
       try {
         listener.settingsChanged(settings);
@@ -549,6 +617,9 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     if(MavenConfigurationChangeEvent.P_USER_SETTINGS_FILE.equals(event.getKey())
         || MavenPreferenceConstants.P_GLOBAL_SETTINGS_FILE.equals(event.getKey())) {
       reloadSettings();
+    } else {
+      // pooled execution request and repository sessions reflect preferences like offline or update policy
+      sessionPool.clear();
     }
   }
 
@@ -938,10 +1009,94 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     }
   }
 
+  /**
+   * Evaluated parameter values of immutable types are cached until the MavenProject instance is replaced, i.e. until
+   * the corresponding workspace project is refreshed, or until a mojo is executed for the project. Values of other
+   * types and values that use expressions which depend on Maven session state, e.g. user or system properties, are
+   * evaluated on every call.
+   */
   public <T> T getMojoParameterValue(final MavenProject project, final MojoExecution mojoExecution,
       final String parameter, final Class<T> asType, final IProgressMonitor monitor) throws CoreException {
-    return context().execute(project,
-        (context, pm) -> getMojoParameterValue(context.getSession(), mojoExecution, parameter, asType), monitor);
+    List<Object> key = getMojoParameterValueKey(mojoExecution, parameter, asType);
+    if(key == null) {
+      return context().execute(project,
+          (context, pm) -> getMojoParameterValue(context.getSession(), mojoExecution, parameter, asType), monitor);
+    }
+    Map<List<Object>, Object> values = getMojoParameterValues(project);
+    Object value = values.get(key);
+    if(value == null) {
+      value = context().execute(project,
+          (context, pm) -> getMojoParameterValue(context.getSession(), mojoExecution, parameter, asType), monitor);
+      if(value == null) {
+        values.put(key, NULL_PARAMETER_VALUE);
+      } else if(isImmutable(value)) {
+        values.put(key, value);
+      }
+    }
+    return value != NULL_PARAMETER_VALUE ? asType.cast(value) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<List<Object>, Object> getMojoParameterValues(MavenProject project) {
+    synchronized(project) {
+      Map<List<Object>, Object> values = (Map<List<Object>, Object>) project.getContextValue(CTX_MOJO_PARAMETER_VALUES);
+      if(values == null) {
+        values = new ConcurrentHashMap<>();
+        project.setContextValue(CTX_MOJO_PARAMETER_VALUES, values);
+      }
+      return values;
+    }
+  }
+
+  private static boolean isImmutable(Object value) {
+    return value instanceof String || value instanceof Boolean || value instanceof Character
+        || value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+        || value instanceof Double || value instanceof Float || value instanceof File || value instanceof Enum;
+  }
+
+  /**
+   * Returns cache key of mojo parameter value or {@code null} if the value depends on Maven session state and cannot be
+   * cached. Only the parameter configuration is used for the key, other parameters do not affect its value.
+   */
+  private static List<Object> getMojoParameterValueKey(MojoExecution mojoExecution, String parameter,
+      Class<?> asType) {
+    Xpp3Dom configuration = mojoExecution.getConfiguration();
+    Xpp3Dom parameterConfiguration = configuration != null ? configuration.getChild(parameter) : null;
+    String rawValue = parameterConfiguration != null ? parameterConfiguration.toString() : null;
+    if(rawValue != null && !isProjectExpressionsOnly(rawValue)) {
+      return null;
+    }
+    return Arrays.asList(new MojoExecutionKey(mojoExecution), parameter, asType, rawValue);
+  }
+
+  /**
+   * Returns {@code true} if all expressions in the raw configuration value are evaluated from the project or the mojo
+   * execution. Other expressions, e.g. ${session.*}, ${settings.*} or plain properties, which may come from user or
+   * system properties, depend on the Maven session.
+   */
+  private static boolean isProjectExpressionsOnly(String rawValue) {
+    int start = rawValue.indexOf("${"); //$NON-NLS-1$
+    while(start >= 0) {
+      int end = rawValue.indexOf('}', start);
+      if(end < 0) {
+        return false;
+      }
+      String expression = rawValue.substring(start + 2, end);
+      if(!isProjectExpression(expression)) {
+        return false;
+      }
+      start = rawValue.indexOf("${", end); //$NON-NLS-1$
+    }
+    return true;
+  }
+
+  private static boolean isProjectExpression(String expression) {
+    for(String prefix : PROJECT_EXPRESSION_PREFIXES) {
+      if(expression.equals(prefix) || expression.startsWith(prefix + ".")) { //$NON-NLS-1$
+        return true;
+      }
+    }
+    return false;
   }
 
   @SuppressWarnings("deprecation")
@@ -1187,6 +1342,13 @@ public class MavenImpl implements IMaven, IMavenConfigurationChangeListener {
     return new ArtifactTransferListenerAdapter(this, monitor);
   }
 
+  /**
+   * @since 1.10
+   */
+  public TransferMetrics getTransferMetrics() {
+    return transferMetrics;
+  }
+
   public PlexusContainer getPlexusContainer() throws CoreException {
     try {
       return getPlexusContainer0();
@@ -12,13 +12,21 @@
 package org.eclipse.m2e.core.internal.embedder;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.maven.model.Resource;
 import org.apache.maven.project.MavenProject;
 
 
+/**
+ * Snapshot of MavenProject state that can be modified by mojo executions, like source roots, resources and properties.
+ * <p>
+ * Snapshots are cheap to take and to restore when the project was not modified, restore only replaces state that
+ * actually differs from the snapshot.
+ */
 public class MavenProjectMutableState {
 
   private static final String CTX_SNAPSHOT = MavenProjectMutableState.class.getName() + "/SNAPSHOT";
@@ -31,7 +39,7 @@ public class MavenProjectMutableState {
 
   private List<Resource> testResources;
 
-  private Properties properties;
+  private Map<Object, Object> properties;
 
   private boolean nested = true;
 
@@ -47,8 +55,8 @@ public class MavenProjectMutableState {
       snapshot.resources = new ArrayList<Resource>(project.getResources());
       snapshot.testResources = new ArrayList<Resource>(project.getTestResources());
 
-      snapshot.properties = new Properties();
-      snapshot.properties.putAll(project.getProperties());
+      // plain hash map copy is considerably cheaper than Properties copy or clone on recent jvms
+      snapshot.properties = new HashMap<Object, Object>(project.getProperties());
 
       project.setContextValue(CTX_SNAPSHOT, Boolean.TRUE);
       snapshot.nested = false;
@@ -68,15 +76,18 @@ public class MavenProjectMutableState {
     setElements(project.getTestResources(), testResources);
 
     if(properties != null) {
-      project.getProperties().clear();
-      project.getProperties().putAll(properties);
+      Properties projectProperties = project.getProperties();
+      if(!properties.equals(projectProperties)) {
+        projectProperties.clear();
+        projectProperties.putAll(properties);
+      }
     }
 
     project.setContextValue(CTX_SNAPSHOT, null);
   }
 
   private <T> void setElements(List<T> collection, List<T> elements) {
-    if(elements != null) {
+    if(elements != null && !elements.equals(collection)) {
       collection.clear();
       collection.addAll(elements);
     }
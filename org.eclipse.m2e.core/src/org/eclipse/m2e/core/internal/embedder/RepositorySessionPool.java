@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.artifact.repository.MavenArtifactRepository;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.MavenExecutionRequest;
+
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystem;
+
+
+/**
+ * Shares settings based execution request setup and repository session setup among Maven execution contexts created
+ * while the pool is active, i.e. during a workspace build. Each context still gets its own execution request, Maven
+ * session and repository session, only their immutable configuration is reused. Only the thread that activated the
+ * pool and worker threads running tasks propagated from its execution contexts use the pool, other threads that run
+ * during the build, e.g. project import or index update jobs, are not affected.
+ *
+ * @since 1.10
+ */
+class RepositorySessionPool {
+
+  /** stands for system properties equal to the system properties of the build cycle in pool keys */
+  private static final Object CYCLE_SYSTEM_PROPERTIES = new Object();
+
+  private int active;
+
+  private Thread buildThread;
+
+  /** system properties and environment variables at the start of the build cycle */
+  private Properties cycleSystemProperties;
+
+  private MavenExecutionRequest executionRequest;
+
+  private final Map<List<Object>, DefaultRepositorySystemSession> repositorySessions =
+      new HashMap<List<Object>, DefaultRepositorySystemSession>();
+
+  public synchronized void activate() {
+    if(active++ == 0) {
+      buildThread = Thread.currentThread();
+    }
+  }
+
+  public synchronized void deactivate() {
+    if(active > 0 && --active == 0) {
+      buildThread = null;
+      clear();
+    }
+  }
+
+  public synchronized void clear() {
+    executionRequest = null;
+    cycleSystemProperties = null;
+    repositorySessions.clear();
+  }
+
+  /**
+   * Returns {@code true} if the pool is active for the current thread. Must be called while holding the pool lock.
+   */
+  private boolean isActive() {
+    if(active == 0) {
+      return false;
+    }
+    Thread current = Thread.currentThread();
+    return current == buildThread || MavenExecutionContext.getThreadSessionOwner() == buildThread;
+  }
+
+  /**
+   * Returns copy of the pooled settings based execution request, or {@code null} if the pool is not active or does not
+   * have the request yet. The pooled request is the request before defaults were populated.
+   */
+  public synchronized MavenExecutionRequest getExecutionRequest() {
+    if(!isActive() || executionRequest == null) {
+      return null;
+    }
+    return copy(executionRequest);
+  }
+
+  /**
+   * Pools copy of the given settings based execution request. Must be called before the defaults of the request are
+   * populated.
+   */
+  public synchronized void putExecutionRequest(MavenExecutionRequest request) {
+    if(isActive()) {
+      executionRequest = copy(request);
+    }
+  }
+
+  /**
+   * Copies the request and its remote repositories. Populating request defaults injects mirrors, proxies and
+   * authentication into the remote repositories, each request needs its own repository instances.
+   */
+  private static MavenExecutionRequest copy(MavenExecutionRequest request) {
+    MavenExecutionRequest copy = DefaultMavenExecutionRequest.copy(request);
+    copy.setRemoteRepositories(copy(request.getRemoteRepositories()));
+    copy.setPluginArtifactRepositories(copy(request.getPluginArtifactRepositories()));
+    return copy;
+  }
+
+  private static List<ArtifactRepository> copy(List<ArtifactRepository> repositories) {
+    if(repositories == null) {
+      return null;
+    }
+    List<ArtifactRepository> copy = new ArrayList<ArtifactRepository>(repositories.size());
+    for(ArtifactRepository repository : repositories) {
+      MavenArtifactRepository repositoryCopy = new MavenArtifactRepository(repository.getId(), repository.getUrl(),
+          repository.getLayout(), repository.getSnapshots(), repository.getReleases());
+      repositoryCopy.setAuthentication(repository.getAuthentication());
+      repositoryCopy.setProxy(repository.getProxy());
+      repositoryCopy.setMirroredRepositories(repository.getMirroredRepositories());
+      copy.add(repositoryCopy);
+    }
+    return copy;
+  }
+
+  /**
+   * Returns new repository session that has the same configuration as the pooled repository session created for an
+   * equivalent execution request, or {@code null} if the pool is not active or there is no such pooled session. The
+   * session gets its own local repository manager, session data and cache.
+   */
+  public DefaultRepositorySystemSession getRepositorySession(MavenExecutionRequest request, String updatePolicy,
+      RepositorySystem repositorySystem) {
+    DefaultRepositorySystemSession template;
+    synchronized(this) {
+      if(!isActive()) {
+        return null;
+      }
+      template = repositorySessions.get(getKey(request, updatePolicy));
+    }
+    if(template == null) {
+      return null;
+    }
+    DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(template);
+    if(request.getWorkspaceReader() != null) {
+      session.setWorkspaceReader(request.getWorkspaceReader());
+    }
+    session.setTransferListener(request.getTransferListener());
+    session.setData(new DefaultSessionData());
+    session.setCache(new DefaultRepositoryCache());
+    session.setLocalRepositoryManager(repositorySystem.newLocalRepositoryManager(session,
+        template.getLocalRepository()));
+    return session;
+  }
+
+  public void putRepositorySession(MavenExecutionRequest request, String updatePolicy,
+      DefaultRepositorySystemSession session) {
+    List<Object> key;
+    synchronized(this) {
+      if(!isActive()) {
+        return;
+      }
+      key = getKey(request, updatePolicy);
+    }
+    // the session is about to be used and modified by the caller, pool pristine copy
+    DefaultRepositorySystemSession template = new DefaultRepositorySystemSession(session);
+    synchronized(this) {
+      if(active > 0) {
+        repositorySessions.put(key, template);
+      }
+    }
+  }
+
+  /**
+   * Execution request attributes repository session configuration depends on. Remote repository configuration
+   * (mirrors, proxies and servers) comes from settings and is not part of the key, the pool is cleared when settings
+   * or Maven preferences change. System properties of execution requests are normally the system properties and the
+   * environment variables at the time the request was created, they are compared with the build cycle snapshot and only
+   * copied into the key if they differ. Must be called while holding the pool lock.
+   */
+  private List<Object> getKey(MavenExecutionRequest request, String updatePolicy) {
+    if(cycleSystemProperties == null) {
+      cycleSystemProperties = new Properties();
+      MavenExecutionContext.populateSystemProperties(cycleSystemProperties);
+    }
+    Properties systemProperties = request.getSystemProperties();
+    Object systemPropertiesKey = cycleSystemProperties.equals(systemProperties) ? CYCLE_SYSTEM_PROPERTIES
+        : new HashMap<Object, Object>(systemProperties);
+    return Arrays.<Object> asList(request.getWorkspaceReader() != null, request.isOffline(),
+        request.isUpdateSnapshots(), updatePolicy, request.getGlobalChecksumPolicy(), request.getLocalRepositoryPath(),
+        request.isCacheNotFound(), request.isCacheTransferError(),
+        new HashMap<Object, Object>(request.getUserProperties()), systemPropertiesKey);
+  }
+}
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Aggregated artifact transfer statistics, per remote repository. Statistics are collected by transfer listeners
+ * created by {@link MavenImpl} for the lifetime of the Maven runtime. Transfers of a single operation can be collected
+ * separately with {@link #startRecording()}.
+ *
+ * @see MavenImpl#getTransferMetrics()
+ * @since 1.10
+ */
+public class TransferMetrics {
+
+  private final ConcurrentMap<String, Counters> repositories = new ConcurrentHashMap<>();
+
+  /** active recordings, by thread that started them */
+  private final ConcurrentMap<Thread, TransferMetrics> recordings = new ConcurrentHashMap<>();
+
+  /** recording that was active when this recording was started, {@code null} for global statistics */
+  private final TransferMetrics parent;
+
+  TransferMetrics() {
+    this(null);
+  }
+
+  private TransferMetrics(TransferMetrics parent) {
+    this.parent = parent;
+  }
+
+  /**
+   * Starts recording of transfers of listeners created by the current thread, in addition to global statistics.
+   * Transfers of listeners created by other threads, e.g. by concurrent jobs, are not recorded. The recording must be
+   * stopped by the current thread with {@link #stopRecording(TransferMetrics)}.
+   */
+  public TransferMetrics startRecording() {
+    Thread thread = Thread.currentThread();
+    TransferMetrics recording = new TransferMetrics(recordings.get(thread));
+    recordings.put(thread, recording);
+    return recording;
+  }
+
+  /**
+   * Stops recording started by the current thread with {@link #startRecording()}.
+   */
+  public void stopRecording(TransferMetrics recording) {
+    Thread thread = Thread.currentThread();
+    if(recording.parent != null) {
+      recordings.put(thread, recording.parent);
+    } else {
+      recordings.remove(thread);
+    }
+  }
+
+  void transferSucceeded(Thread owner, String repository, long bytes, long durationMillis) {
+    for(TransferMetrics metrics : getTargets(owner)) {
+      Counters counters = metrics.getCounters(repository);
+      counters.transfers.incrementAndGet();
+      counters.bytes.addAndGet(bytes);
+      counters.duration.addAndGet(durationMillis);
+    }
+  }
+
+  void transferFailed(Thread owner, String repository, long bytes, long durationMillis) {
+    for(TransferMetrics metrics : getTargets(owner)) {
+      Counters counters = metrics.getCounters(repository);
+      counters.failures.incrementAndGet();
+      counters.bytes.addAndGet(bytes);
+      counters.duration.addAndGet(durationMillis);
+    }
+  }
+
+  void transferRetried(Thread owner, String repository) {
+    for(TransferMetrics metrics : getTargets(owner)) {
+      metrics.getCounters(repository).retries.incrementAndGet();
+    }
+  }
+
+  /**
+   * Returns global statistics and all recordings active for the thread that created the transfer listener.
+   */
+  private List<TransferMetrics> getTargets(Thread owner) {
+    List<TransferMetrics> targets = new ArrayList<>();
+    targets.add(this);
+    for(TransferMetrics recording = recordings.get(owner); recording != null; recording = recording.parent) {
+      targets.add(recording);
+    }
+    return targets;
+  }
+
+  private Counters getCounters(String repository) {
+    if(repository == null) {
+      repository = "<unknown>"; //$NON-NLS-1$
+    }
+    Counters counters = repositories.get(repository);
+    if(counters == null) {
+      counters = new Counters();
+      Counters existing = repositories.putIfAbsent(repository, counters);
+      if(existing != null) {
+        counters = existing;
+      }
+    }
+    return counters;
+  }
+
+  /**
+   * Returns current statistics, sorted by repository url.
+   */
+  public Map<String, RepositoryMetrics> getMetrics() {
+    Map<String, RepositoryMetrics> result = new TreeMap<>();
+    for(Map.Entry<String, Counters> entry : repositories.entrySet()) {
+      Counters counters = entry.getValue();
+      result.put(entry.getKey(), new RepositoryMetrics(counters.transfers.get(), counters.failures.get(),
+          counters.retries.get(), counters.bytes.get(), counters.duration.get()));
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  /**
+   * Returns human readable summary of collected statistics, or {@code null} if there were no transfers.
+   */
+  public String getSummary() {
+    StringBuilder sb = new StringBuilder();
+    for(Map.Entry<String, RepositoryMetrics> entry : getMetrics().entrySet()) {
+      RepositoryMetrics metrics = entry.getValue();
+      if(metrics.getTransfers() == 0 && metrics.getFailures() == 0) {
+        continue;
+      }
+      if(sb.length() > 0) {
+        sb.append('\n');
+      }
+      sb.append(entry.getKey()).append(": ").append(metrics); //$NON-NLS-1$
+    }
+    return sb.length() > 0 ? sb.toString() : null;
+  }
+
+  /**
+   * Resets all collected statistics.
+   */
+  public void reset() {
+    repositories.clear();
+  }
+
+  private static class Counters {
+    final AtomicLong transfers = new AtomicLong();
+
+    final AtomicLong failures = new AtomicLong();
+
+    final AtomicLong retries = new AtomicLong();
+
+    final AtomicLong bytes = new AtomicLong();
+
+    final AtomicLong duration = new AtomicLong();
+  }
+
+  /**
+   * Transfer statistics of a single remote repository.
+   */
+  public static class RepositoryMetrics {
+
+    private final long transfers;
+
+    private final long failures;
+
+    private final long retries;
+
+    private final long bytes;
+
+    private final long duration;
+
+    RepositoryMetrics(long transfers, long failures, long retries, long bytes, long duration) {
+      this.transfers = transfers;
+      this.failures = failures;
+      this.retries = retries;
+      this.bytes = bytes;
+      this.duration = duration;
+    }
+
+    /**
+     * Number of successfully completed transfers.
+     */
+    public long getTransfers() {
+      return transfers;
+    }
+
+    /**
+     * Number of failed transfers, including resources not found in the repository.
+     */
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * Number of transfers initiated again after a failed attempt.
+     */
+    public long getRetries() {
+      return retries;
+    }
+
+    /**
+     * Number of transferred bytes.
+     */
+    public long getBytes() {
+      return bytes;
+    }
+
+    /**
+     * Total duration of all transfers, in milliseconds. Parallel transfers are accounted for separately.
+     */
+    public long getDuration() {
+      return duration;
+    }
+
+    /**
+     * Average throughput, in bytes per second.
+     */
+    public long getThroughput() {
+      return duration > 0 ? bytes * 1000 / duration : 0;
+    }
+
+    @Override
+    public String toString() {
+      return transfers + " transfers, " + failures + " failures, " + retries + " retries, " + bytes + " bytes in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+          + duration + " ms (" + getThroughput() + " B/s)"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+  }
+}
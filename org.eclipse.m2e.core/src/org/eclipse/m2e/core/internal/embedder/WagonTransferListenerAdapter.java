@@ -30,7 +30,7 @@ final class WagonTransferListenerAdapter extends AbstractTransferListenerAdapter
 
   public void transferInitiated(TransferEvent e) {
     // System.err.println( "init "+e.getWagon().getRepository()+"/"+e.getResource().getName());
-    transferInitiated((String) null);
+    transferInitiated(getRepositoryUrl(e), getArtifactUrl(e));
   }
 
   public void transferStarted(TransferEvent e) {
@@ -42,23 +42,31 @@ final class WagonTransferListenerAdapter extends AbstractTransferListenerAdapter
       sb.append(repositoryId).append(" : "); //$NON-NLS-1$
     }
     sb.append(e.getResource().getName());
-    transferStarted(sb.toString());
+    transferStarted(getArtifactUrl(e), sb.toString());
   }
 
   public void transferProgress(TransferEvent e, byte[] buffer, int length) {
     long total = e.getResource().getContentLength();
-    String artifactUrl = e.getWagon().getRepository() + "/" + e.getResource().getName(); //$NON-NLS-1$
+    String artifactUrl = getArtifactUrl(e);
 
     transferProgress(artifactUrl, total, length);
   }
 
   public void transferCompleted(TransferEvent e) {
-    String artifactUrl = e.getWagon().getRepository() + "/" + e.getResource().getName(); //$NON-NLS-1$
-    transferCompleted(artifactUrl);
+    transferCompleted(getRepositoryUrl(e), getArtifactUrl(e));
   }
 
   public void transferError(TransferEvent e) {
-    transferError(e.getWagon().getRepository() + "/" + e.getResource().getName(), e.getException()); //$NON-NLS-1$
+    transferError(getRepositoryUrl(e), getArtifactUrl(e), e.getException());
+  }
+
+  private static String getArtifactUrl(TransferEvent e) {
+    return e.getWagon().getRepository() + "/" + e.getResource().getName(); //$NON-NLS-1$
+  }
+
+  private static String getRepositoryUrl(TransferEvent e) {
+    Wagon wagon = e.getWagon();
+    return wagon != null && wagon.getRepository() != null ? wagon.getRepository().getUrl() : null;
   }
 
   public void debug(String message) {
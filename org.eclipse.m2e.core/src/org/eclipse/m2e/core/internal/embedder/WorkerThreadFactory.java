@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.embedder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Creates daemon worker threads that do not inherit inheritable thread locals of the thread that requests them.
+ * <p>
+ * Maven LegacySupport keeps current Maven session in an inheritable thread local shared by reference between the
+ * parent and child threads, and clears the shared reference whenever the session is changed. Worker threads created
+ * directly by a thread that runs Maven execution context would therefore clear the session of that thread. Threads
+ * created by this factory are created by a dedicated creator thread, which is started before any Maven session exists
+ * and never runs Maven code.
+ *
+ * @see MavenExecutionContext#wrap(java.util.concurrent.ExecutorService)
+ * @since 1.10
+ */
+public class WorkerThreadFactory implements ThreadFactory {
+
+  private static ThreadPoolExecutor creator;
+
+  private final String name;
+
+  private final AtomicInteger count = new AtomicInteger();
+
+  public WorkerThreadFactory(String name) {
+    this.name = name;
+  }
+
+  public Thread newThread(final Runnable runnable) {
+    final String threadName = name + " " + count.incrementAndGet(); //$NON-NLS-1$
+    ThreadPoolExecutor creator = getCreator();
+    if(creator == null) {
+      // not started or already stopped, the thread may inherit Maven session of the current thread
+      return createThread(runnable, threadName);
+    }
+    Future<Thread> thread;
+    try {
+      thread = creator.submit(new Callable<Thread>() {
+        public Thread call() {
+          return createThread(runnable, threadName);
+        }
+      });
+    } catch(RejectedExecutionException e) {
+      // stopped concurrently
+      return createThread(runnable, threadName);
+    }
+    // thread creation is quick, wait for it even if interrupted, returning null would strand queued pool tasks
+    boolean interrupted = false;
+    try {
+      while(true) {
+        try {
+          return thread.get();
+        } catch(InterruptedException e) {
+          interrupted = true;
+        } catch(ExecutionException e) {
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    } finally {
+      if(interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  static Thread createThread(Runnable runnable, String threadName) {
+    Thread thread = new Thread(runnable, threadName);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  private static synchronized ThreadPoolExecutor getCreator() {
+    return creator;
+  }
+
+  /**
+   * Starts the worker thread creator thread. Must be called before any Maven session is created.
+   */
+  public static synchronized void start() {
+    if(creator == null) {
+      creator = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+          new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+              return createThread(r, "M2E worker thread creator"); //$NON-NLS-1$
+            }
+          });
+      // create the creator thread now, while no Maven session can be inherited
+      creator.prestartAllCoreThreads();
+    }
+  }
+
+  public static synchronized void stop() {
+    if(creator != null) {
+      creator.shutdown();
+      creator = null;
+    }
+  }
+}
@@ -32,6 +32,8 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -154,7 +156,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   private final List<IndexListener> indexListeners = new ArrayList<IndexListener>();
 
-  private NexusIndex localIndex;
+  private volatile NexusIndex localIndex;
 
   private final NexusIndex workspaceIndex;
 
@@ -169,11 +171,12 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   private static final EquinoxLocker locker = new EquinoxLocker();
 
   /**
-   * Maps repository UID to the lock object associated with the repository. Entries are only added but never directly
-   * removed from the map, although jvm garbage collector may remove otherwise unused entries to reclaim the little
-   * memory they use. Never access this map directly. #getIndexLock must be used to get repository lock object.
+   * Maps repository UID to the read/write lock associated with the repository indexing context. Searches hold the read
+   * lock, index updates hold the write lock. Entries are only added but never directly removed from the map, although
+   * jvm garbage collector may remove otherwise unused entries to reclaim the little memory they use. Never access this
+   * map directly. #getIndexLock must be used to get repository lock.
    */
-  private final Map<String, Object> indexLocks = new WeakHashMap<String, Object>();
+  private final Map<String, ReadWriteLock> indexLocks = new WeakHashMap<String, ReadWriteLock>();
 
   private final PlexusContainer container;
 
@@ -238,11 +241,15 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         query.add(constructQuery(MAVEN.CLASSIFIER, gav.getClassifier(), SearchType.EXACT), BooleanClause.Occur.MUST);
       }
 
-      synchronized(getIndexLock(repository)) {
+      ReadWriteLock indexLock = getIndexLock(repository);
+      indexLock.readLock().lock();
+      try {
         ArtifactInfo artifactInfo = getIndexer().identify(query, Collections.singleton(getIndexingContext(repository)));
         if(artifactInfo != null) {
           return getIndexedArtifactFile(artifactInfo);
         }
+      } finally {
+        indexLock.readLock().unlock();
       }
     } catch(Exception ex) {
       String msg = "Illegal artifact coordinate " + ex.getMessage();
@@ -428,7 +435,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     try {
       IteratorSearchResponse response;
 
-      synchronized(getIndexLock(repository)) {
+      ReadWriteLock indexLock = getIndexLock(repository);
+      indexLock.readLock().lock();
+      try {
         IndexingContext context = getIndexingContext(repository);
         if(context == null) {
           response = getIndexer().searchIterator(new IteratorSearchRequest(query));
@@ -453,6 +462,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
             }
           }
         }
+      } finally {
+        indexLock.readLock().unlock();
       }
     } catch(IOException ex) {
       throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1,
@@ -478,13 +489,17 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     try {
       IteratorSearchResponse response;
 
-      synchronized(getIndexLock(repository)) {
+      ReadWriteLock indexLock = getIndexLock(repository);
+      indexLock.readLock().lock();
+      try {
         IndexingContext context = getIndexingContext(repository);
         if(context == null) {
           response = getIndexer().searchIterator(new IteratorSearchRequest(query));
         } else {
           response = getIndexer().searchIterator(new IteratorSearchRequest(query, context));
         }
+      } finally {
+        indexLock.readLock().unlock();
       }
 
       for(ArtifactInfo artifactInfo : response.getResults()) {
@@ -563,7 +578,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   protected void addDocument(IRepository repository, File file, ArtifactKey key) {
-    synchronized(getIndexLock(repository)) {
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.writeLock().lock();
+    try {
       IndexingContext context = getIndexingContext(repository);
       if(context == null) {
         // TODO log
@@ -582,6 +599,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         String msg = "Unable to add " + getDocumentKey(key);
         log.error(msg, ex);
       }
+    } finally {
+      indexLock.writeLock().unlock();
     }
   }
 
@@ -598,7 +617,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   protected void removeDocument(IRepository repository, File file, ArtifactKey key, IMavenProjectFacade facade) {
-    synchronized(getIndexLock(repository)) {
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.writeLock().lock();
+    try {
       try {
         IndexingContext context = getIndexingContext(repository);
         if(context == null) {
@@ -621,6 +642,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         String msg = "Unable to remove " + getDocumentKey(key);
         log.error(msg, ex);
       }
+    } finally {
+      indexLock.writeLock().unlock();
     }
 
     fireIndexChanged(repository);
@@ -663,7 +686,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   /** for unit tests */
   public IndexedArtifactGroup[] getRootIndexedArtifactGroups(IRepository repository) throws CoreException {
-    synchronized(getIndexLock(repository)) {
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.readLock().lock();
+    try {
       IndexingContext context = getIndexingContext(repository);
       if(context != null) {
         try {
@@ -680,6 +705,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         }
       }
       return new IndexedArtifactGroup[0];
+    } finally {
+      indexLock.readLock().unlock();
     }
   }
 
@@ -745,7 +772,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
      * This method is called while holding workspace lock. Avoid long-running operations if possible. 
      */
 
-    synchronized(getIndexLock(repositoryRegistry.getWorkspaceRepository())) {
+    ReadWriteLock indexLock = getIndexLock(repositoryRegistry.getWorkspaceRepository());
+    indexLock.writeLock().lock();
+    try {
       IndexingContext context = getIndexingContext(repositoryRegistry.getWorkspaceRepository());
 
       if(context != null) {
@@ -768,6 +797,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
           }
         }
       }
+    } finally {
+      indexLock.writeLock().unlock();
     }
   }
 
@@ -776,10 +807,19 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   public NexusIndex getLocalIndex() {
-    IRepository localRepository = repositoryRegistry.getLocalRepository();
-    synchronized(getIndexLock(localRepository)) {
-      if(localIndex == null) {
-        localIndex = newLocalIndex(localRepository);
+    NexusIndex localIndex = this.localIndex;
+    if(localIndex == null) {
+      IRepository localRepository = repositoryRegistry.getLocalRepository();
+      ReadWriteLock indexLock = getIndexLock(localRepository);
+      indexLock.writeLock().lock();
+      try {
+        localIndex = this.localIndex;
+        if(localIndex == null) {
+          localIndex = newLocalIndex(localRepository);
+          this.localIndex = localIndex;
+        }
+      } finally {
+        indexLock.writeLock().unlock();
       }
     }
     return localIndex;
@@ -915,7 +955,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       details = defaultDetails;
     }
 
-    synchronized(getIndexLock(repository)) {
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.writeLock().lock();
+    try {
       IndexingContext indexingContext = getIndexingContext(repository);
 
       try {
@@ -947,9 +989,11 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       }
 
       if(repository.isScope(IRepositoryRegistry.SCOPE_LOCAL)) {
-        // note that we are still synchronized on repository lock at this point
+        // note that we still hold repository write lock at this point
         this.localIndex = newLocalIndex(repositoryRegistry.getLocalRepository());
       }
+    } finally {
+      indexLock.writeLock().unlock();
     }
   }
 
@@ -980,7 +1024,9 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
   }
 
   public void repositoryRemoved(IRepository repository, IProgressMonitor monitor) {
-    synchronized(getIndexLock(repository)) {
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.writeLock().lock();
+    try {
       try {
         IndexingContext context = getIndexingContext(repository);
         if(context == null) {
@@ -991,6 +1037,8 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         String msg = "Unable to delete files for index";
         log.error(msg, ie);
       }
+    } finally {
+      indexLock.writeLock().unlock();
     }
 
     fireIndexRemoved(repository);
@@ -1068,36 +1116,51 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
 
   //Public for testing purpose.
   public void updateIndex(IRepository repository, boolean force, IProgressMonitor monitor) throws CoreException {
-    synchronized(getIndexLock(repository)) {
+    if(isRemoteIndex(repository)) {
+      //if 'force' is not set, then only do the remote update if this value is set
+      IMavenConfiguration mavenConfig = MavenPlugin.getMavenConfiguration();
+      if(force || mavenConfig.isUpdateIndexesOnStartup()) {
+        updateRemoteIndex(repository, force, monitor);
+      }
+    }
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.writeLock().lock();
+    try {
       if(repository.isScope(IRepositoryRegistry.SCOPE_WORKSPACE)) {
         reindexWorkspace(force, monitor);
       } else {
         IndexingContext context = getIndexingContext(repository);
-        if(context != null) {
-          if(context.getRepository() != null) {
-            reindexLocalRepository(repository, force, monitor);
-          } else {
-            if(!force) {
-              //if 'force' is not set, then only do the remote update if this value is set
-              IMavenConfiguration mavenConfig = MavenPlugin.getMavenConfiguration();
-              if(mavenConfig.isUpdateIndexesOnStartup()) {
-                updateRemoteIndex(repository, force, monitor);
-              }
-            } else {
-              updateRemoteIndex(repository, force, monitor);
-            }
-          }
+        if(context != null && context.getRepository() != null) {
+          reindexLocalRepository(repository, force, monitor);
         }
       }
       IndexingContext context = getIndexingContext(repository);
       if(context != null) {
         context.setSearchable(true);
       }
+    } finally {
+      indexLock.writeLock().unlock();
+    }
+  }
+
+  private boolean isRemoteIndex(IRepository repository) {
+    if(repository.isScope(IRepositoryRegistry.SCOPE_WORKSPACE)) {
+      return false;
+    }
+    ReadWriteLock indexLock = getIndexLock(repository);
+    indexLock.readLock().lock();
+    try {
+      IndexingContext context = getIndexingContext(repository);
+      return context != null && context.getRepository() == null;
+    } finally {
+      indexLock.readLock().unlock();
     }
   }
 
   /*
-   * Callers must hold repository access synchronisation lock 
+   * Callers must not hold repository read lock. The index is downloaded and processed into the cached lucene index
+   * without holding any repository lock, searches keep using the current index meanwhile. The write lock is only held
+   * while the indexing context is updated or replaced. 
    */
   private void updateRemoteIndex(IRepository repository, boolean force, IProgressMonitor monitor) {
     if(repository == null) {
@@ -1110,6 +1173,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
       monitor.setTaskName(NLS.bind(Messages.NexusIndexManager_task_updating, repository.toString()));
     }
     log.info("Updating index for repository: {}", repository.toString()); //$NON-NLS-1$
+    ReadWriteLock indexLock = getIndexLock(repository);
     try {
       fireIndexUpdating(repository);
 
@@ -1123,6 +1187,7 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
         try {
           boolean updated;
 
+          // only fetches into the local cache, the indexing context is not modified
           request.setCacheOnly(true);
           IndexUpdateResult result = indexUpdater.fetchAndUpdateIndex(request);
           if(result.isFullUpdate() || !context.isSearchable()) {
@@ -1135,24 +1200,43 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
             Directory directory = FSDirectory.getDirectory(luceneCache);
             IndexingContext cacheCtx = getIndexer().addIndexingContextForced(id, id, null, directory, null, null,
                 getIndexers(details));
-            request = newIndexUpdateRequest(repository, cacheCtx, monitor);
-            request.setOffline(true);
-            indexUpdater.fetchAndUpdateIndex(request);
+            cacheCtx.setSearchable(false); // not complete yet, must not be visible to global searches
+            try {
+              request = newIndexUpdateRequest(repository, cacheCtx, monitor);
+              request.setOffline(true);
+              indexUpdater.fetchAndUpdateIndex(request);
+            } finally {
+              getIndexer().removeIndexingContext(cacheCtx, false); // keep the cache!
+            }
 
             // 2. copy cached/shared (this is not very elegant, oh well)
-            getIndexer().removeIndexingContext(context, true); // nuke workspace index files
-            getIndexer().removeIndexingContext(cacheCtx, false); // keep the cache!
-            FileUtils.cleanDirectory(context.getIndexDirectoryFile());
-            FileUtils.copyDirectory(luceneCache, context.getIndexDirectoryFile()); // copy cached lucene index
-            context = createIndexingContext(repository, details); // re-create indexing context
-
-            updated = true;
+            indexLock.writeLock().lock();
+            try {
+              updated = context == getIndexingContext(repository);
+              if(updated) {
+                getIndexer().removeIndexingContext(context, true); // nuke workspace index files
+                FileUtils.cleanDirectory(context.getIndexDirectoryFile());
+                FileUtils.copyDirectory(luceneCache, context.getIndexDirectoryFile()); // copy cached lucene index
+                context = createIndexingContext(repository, details); // re-create indexing context
+                context.setSearchable(true);
+              }
+            } finally {
+              indexLock.writeLock().unlock();
+            }
           } else {
             // incremental change
-            request = newIndexUpdateRequest(repository, context, monitor);
-            request.setOffline(true); // local cache is already uptodate, no need to
-            result = indexUpdater.fetchAndUpdateIndex(request);
-            updated = result.getTimestamp() != null;
+            indexLock.writeLock().lock();
+            try {
+              updated = context == getIndexingContext(repository);
+              if(updated) {
+                request = newIndexUpdateRequest(repository, context, monitor);
+                request.setOffline(true); // local cache is already uptodate, no need to
+                result = indexUpdater.fetchAndUpdateIndex(request);
+                updated = result.getTimestamp() != null;
+              }
+            } finally {
+              indexLock.writeLock().unlock();
+            }
           }
 
           if(updated) {
@@ -1237,15 +1321,16 @@ public class NexusIndexManager implements IndexManager, IMavenProjectChangedList
     return Messages.NexusIndexManager_78;
   }
 
-  private Object getIndexLock(IRepository repository) {
+  private ReadWriteLock getIndexLock(IRepository repository) {
     if(repository == null) {
-      return new Object();
+      return new ReentrantReadWriteLock();
     }
-    // NOTE: We ultimately want to prevent concurrent access to the IndexingContext so we sync on the repo UID and not on the repo instance.
+    // NOTE: We ultimately want to prevent concurrent modification of the IndexingContext so we lock on the repo UID and not on the repo instance.
+    // Read lock must not be upgraded to write lock, i.e. code holding read lock must never call index update methods.
     synchronized(indexLocks) {
-      Object lock = indexLocks.get(repository.getUid());
+      ReadWriteLock lock = indexLocks.get(repository.getUid());
       if(lock == null) {
-        lock = new Object();
+        lock = new ReentrantReadWriteLock();
         indexLocks.put(repository.getUid(), lock);
       }
       return lock;
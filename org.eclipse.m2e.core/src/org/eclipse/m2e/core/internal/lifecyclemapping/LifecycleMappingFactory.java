@@ -26,6 +26,7 @@ import java.io.OutputStream;
 import java.io.StringReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -63,6 +64,8 @@ import org.apache.maven.artifact.repository.ArtifactRepository;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.BuildBase;
+import org.apache.maven.model.InputLocation;
+import org.apache.maven.model.InputSource;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginManagement;
@@ -154,6 +157,8 @@ public class LifecycleMappingFactory {
 
   static final String ELEMENT_RUN_ON_INCREMENTAL = "runOnIncremental";
 
+  static final String ELEMENT_SKIP_UNCHANGED_INPUTS = "skipUnchangedInputs";
+
   static final String ELEMENT_RUN_ON_CONFIGURATION = "runOnConfiguration";
 
   private static final String ATTR_GROUPID = "groupId";
@@ -164,8 +169,46 @@ public class LifecycleMappingFactory {
 
   private static final String LIFECYCLE_MAPPING_METADATA_CLASSIFIER = "lifecycle-mapping-metadata";
 
+  private static final String METADATA_CACHE_FILE_NAME = "lifecycle-mapping-metadata.cache"; //$NON-NLS-1$
+
   private static List<LifecycleMappingMetadataSource> bundleMetadataSources = null;
 
+  private static SimpleMappingMetadataSource bundleMappingMetadataSource;
+
+  private static final LifecycleMappingResultCache resultCache = new LifecycleMappingResultCache();
+
+  private static final int CONFIGURATOR_SORTER_CACHE_SIZE = 256;
+
+  /**
+   * Sorted project configurator ids, by configurator ids in iteration order. Also guards
+   * {@link #projectConfiguratorExtensions}.
+   */
+  private static final Map<List<String>, ProjectConfigurationElementSorter> configuratorSorters = new LinkedHashMap<List<String>, ProjectConfigurationElementSorter>(
+      16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    protected boolean removeEldestEntry(Map.Entry<List<String>, ProjectConfigurationElementSorter> eldest) {
+      return size() > CONFIGURATOR_SORTER_CACHE_SIZE;
+    }
+  };
+
+  /**
+   * Project configurator extensions by configurator id, {@code null} until requested or after the extensions changed
+   */
+  private static Map<String, IConfigurationElement> projectConfiguratorExtensions;
+
+  private static final int EMBEDDED_METADATA_CACHE_SIZE = 64;
+
+  /** lifecycle mapping metadata embedded in pom.xml files, by metadata configuration */
+  private static final Map<String, LifecycleMappingMetadataSource> embeddedMetadataSources = new LinkedHashMap<String, LifecycleMappingMetadataSource>(
+      16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    protected boolean removeEldestEntry(Map.Entry<String, LifecycleMappingMetadataSource> eldest) {
+      return size() > EMBEDDED_METADATA_CACHE_SIZE;
+    }
+  };
+
   public static LifecycleMappingResult calculateLifecycleMapping(MavenProject mavenProject,
       List<MojoExecution> mojoExecutions, String lifecycleMappingId, IProgressMonitor monitor) {
     long start = System.currentTimeMillis();
@@ -246,7 +289,18 @@ public class LifecycleMappingFactory {
       return;
     }
 
+    List<Object> key = LifecycleMappingResultCache.getKey(packagingType, metadataSources, mojoExecutions);
+    if(key != null && resultCache.get(key, result)) {
+      log.debug("Using cached lifecycle mapping metadata for {}.", mavenProject.toString()); //$NON-NLS-1$
+      return;
+    }
+
+    int firstProblem = result.getProblems().size();
     calculateEffectiveLifecycleMappingMetadata(result, metadataSources, mavenProject, mojoExecutions, true, monitor);
+
+    if(key != null) {
+      resultCache.put(key, result, firstProblem);
+    }
   }
 
   public static List<MappingMetadataSource> getProjectMetadataSources(MavenProject mavenProject,
@@ -285,7 +339,7 @@ public class LifecycleMappingFactory {
     // TODO filter out invalid metadata from sources contributed by eclipse extensions and the default source 
     if(bundleMetadataSources != null) {
       metadataSourcesMap.put("bundleMetadataSources",
-          Collections.singletonList((MappingMetadataSource) new SimpleMappingMetadataSource(bundleMetadataSources)));
+          Collections.singletonList((MappingMetadataSource) getBundleMappingMetadataSource(bundleMetadataSources)));
     }
 
     metadataSources = new ArrayList<MappingMetadataSource>();
@@ -306,6 +360,18 @@ public class LifecycleMappingFactory {
     return metadataSourcesMap;
   }
 
+  /**
+   * Returns indexed mapping metadata source of the bundle metadata sources, shared by all projects until bundle
+   * metadata sources change.
+   */
+  private synchronized static SimpleMappingMetadataSource getBundleMappingMetadataSource(
+      List<LifecycleMappingMetadataSource> sources) {
+    if(bundleMappingMetadataSource == null || !bundleMappingMetadataSource.getSources().equals(sources)) {
+      bundleMappingMetadataSource = new SimpleMappingMetadataSource(sources);
+    }
+    return bundleMappingMetadataSource;
+  }
+
   public static void addLifecyclePluginExecution(LifecycleMappingMetadataSource mapping, String groupId,
       String artifactId, String version, String[] goals, PluginExecutionAction action) {
 
@@ -389,12 +455,6 @@ public class LifecycleMappingFactory {
       }
       LifecycleMappingMetadataSource metadata = readMavenPluginEmbeddedMetadata(artifact);
       if(metadata != null) {
-        // enforce embedded metadata only contains mappings for this plugin and nothing else
-        for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
-          enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
-        }
-        enforcePluginMapping(artifact, metadata.getPluginExecutions());
-
         result.put(file, metadata);
       }
     }
@@ -432,26 +492,22 @@ public class LifecycleMappingFactory {
     return actual == null || actual.equals(expected);
   }
 
-  private static LifecycleMappingMetadataSource readMavenPluginEmbeddedMetadata(Artifact artifact) {
+  private static LifecycleMappingMetadataSource readMavenPluginEmbeddedMetadata(final Artifact artifact) {
+    LifecycleMappingMetadataCache.MetadataProcessor processor = new LifecycleMappingMetadataCache.MetadataProcessor() {
+      public void process(LifecycleMappingMetadataSource metadata) {
+        // enforce embedded metadata only contains mappings for this plugin and nothing else
+        for(LifecycleMappingMetadata lifecycleMetadta : metadata.getLifecycleMappings()) {
+          enforcePluginMapping(artifact, lifecycleMetadta.getPluginExecutions());
+        }
+        enforcePluginMapping(artifact, metadata.getPluginExecutions());
+        metadata.setSource(artifact);
+      }
+    };
     File file = artifact.getFile();
     LifecycleMappingMetadataSource metadata = null;
     try {
       if(file.isFile()) {
-        JarFile jar = new JarFile(file);
-        try {
-          ZipEntry entry = jar.getEntry(LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
-          if(entry == null) {
-            return null;
-          }
-          InputStream is = jar.getInputStream(entry);
-          metadata = createLifecycleMappingMetadataSource(is);
-        } finally {
-          try {
-            jar.close();
-          } catch(IOException e) {
-            // too bad
-          }
-        }
+        metadata = getMetadataCache().get(artifact.getId(), file, EMBEDDED_METADATA_READER, processor);
       } else if(file.isDirectory()) {
         try {
           InputStream is = new BufferedInputStream(
@@ -461,6 +517,7 @@ public class LifecycleMappingFactory {
           } finally {
             IOUtil.close(is);
           }
+          processor.process(metadata);
         } catch(FileNotFoundException e) {
           // expected and tolerated
         }
@@ -472,12 +529,68 @@ public class LifecycleMappingFactory {
       throw new LifecycleMappingConfigurationException(
           "Cannot read lifecycle mapping metadata for artifact " + artifact, e);
     }
-    if(metadata != null) {
-      metadata.setSource(artifact);
-    }
     return metadata;
   }
 
+  private static final LifecycleMappingMetadataCache.ContentReader EMBEDDED_METADATA_READER = new LifecycleMappingMetadataCache.ContentReader() {
+    public byte[] read(File file) throws IOException {
+      JarFile jar = new JarFile(file);
+      try {
+        ZipEntry entry = jar.getEntry(LIFECYCLE_MAPPING_METADATA_EMBEDDED_SOURCE_PATH);
+        if(entry == null) {
+          return null;
+        }
+        InputStream is = jar.getInputStream(entry);
+        try {
+          return IOUtil.toByteArray(is);
+        } finally {
+          IOUtil.close(is);
+        }
+      } finally {
+        try {
+          jar.close();
+        } catch(IOException e) {
+          // too bad
+        }
+      }
+    }
+  };
+
+  private static final LifecycleMappingMetadataCache.ContentReader FILE_METADATA_READER = new LifecycleMappingMetadataCache.ContentReader() {
+    public byte[] read(File file) throws IOException {
+      InputStream is = new FileInputStream(file);
+      try {
+        return IOUtil.toByteArray(is);
+      } finally {
+        IOUtil.close(is);
+      }
+    }
+  };
+
+  private static LifecycleMappingMetadataCache metadataCache;
+
+  /**
+   * Returns cache of lifecycle mapping metadata read from metadata artifacts and maven plugin jars.
+   */
+  public synchronized static LifecycleMappingMetadataCache getMetadataCache() {
+    if(metadataCache == null) {
+      MavenPluginActivator activator = MavenPluginActivator.getDefault();
+      File cacheFile = activator != null ? new File(activator.getStateLocation().toFile(), METADATA_CACHE_FILE_NAME)
+          : null;
+      metadataCache = new LifecycleMappingMetadataCache(cacheFile);
+    }
+    return metadataCache;
+  }
+
+  /**
+   * Persists lifecycle mapping metadata cache, if it was used.
+   */
+  public synchronized static void writeMetadataCache() {
+    if(metadataCache != null) {
+      metadataCache.write();
+    }
+  }
+
   private static File getWorkspaceMetadataFile() {
     return new File(MavenPlugin.getMavenConfiguration().getWorkspaceLifecycleMappingMetadataFile());
   }
@@ -507,6 +620,7 @@ public class LifecycleMappingFactory {
       }
 
       workspaceMetadataSource.setSource("workspace");
+      resultCache.clear();
     }
 
     return workspaceMetadataSource;
@@ -527,6 +641,7 @@ public class LifecycleMappingFactory {
       log.error(ex.getMessage(), ex);
     }
     workspaceMetadataSource = metadata;
+    resultCache.clear();
   }
 
   public static void calculateEffectiveLifecycleMappingMetadata(final LifecycleMappingResult result,
@@ -580,8 +695,6 @@ public class LifecycleMappingFactory {
     Map<MojoExecutionKey, List<IPluginExecutionMetadata>> executionMapping = new LinkedHashMap<>();
 
     if(mojoExecutions != null && !mojoExecutions.isEmpty()) {
-      Map<String, IConfigurationElement> elements = getProjectConfiguratorExtensions();
-
       for(MojoExecution execution : mojoExecutions) {
 
         MojoExecutionKey executionKey = new MojoExecutionKey(execution);
@@ -595,8 +708,12 @@ public class LifecycleMappingFactory {
         // collect all metadatasPerSource and extract all configurator execution metadatas
         for(MappingMetadataSource source : metadataSources) {
           try {
-            List<PluginExecutionMetadata> metadatas = applyParametersFilter(
-                source.getPluginExecutionMetadata(executionKey), mavenProject, execution, monitor);
+            List<PluginExecutionMetadata> candidates = source.getPluginExecutionMetadata(executionKey);
+            if(hasParametersFilter(candidates)) {
+              result.setProjectSpecific(true);
+            }
+            List<PluginExecutionMetadata> metadatas = applyParametersFilter(candidates, mavenProject, execution,
+                monitor);
             metadatasPerSource.put(source, metadatas);
             for(PluginExecutionMetadata executionMetadata : metadatas) {
               if(isConfigurator(executionMetadata)) {
@@ -614,7 +731,7 @@ public class LifecycleMappingFactory {
         //Sort configurator execution metadatas
         ProjectConfigurationElementSorter sorter = null;
         try {
-          sorter = new ProjectConfigurationElementSorter(configuratorMetadataMap.keySet(), elements);
+          sorter = getProjectConfigurationElementSorter(configuratorMetadataMap.keySet());
         } catch(CycleDetectedException ex) {
           log.error(ex.getMessage(), ex);
           result.addProblem(new MavenProblemInfo(1,
@@ -680,6 +797,15 @@ public class LifecycleMappingFactory {
     result.setMojoExecutionMapping(executionMapping);
   }
 
+  private static boolean hasParametersFilter(List<PluginExecutionMetadata> metadatas) {
+    for(PluginExecutionMetadata metadata : metadatas) {
+      if(!metadata.getFilter().getParameters().isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static List<PluginExecutionMetadata> applyParametersFilter(List<PluginExecutionMetadata> metadatas,
       MavenProject mavenProject, MojoExecution execution, IProgressMonitor monitor) throws CoreException {
     IMaven maven = MavenPlugin.getMaven();
@@ -819,7 +945,9 @@ public class LifecycleMappingFactory {
 
   private static boolean isPomMapping(IPluginExecutionMetadata metadata) {
     LifecycleMappingMetadataSource source = ((PluginExecutionMetadata) metadata).getSource();
-    return source != null && source.getSource() instanceof MavenProject;
+    // embedded metadata has declaring pom.xml as source, annotation metadata has the project
+    Object pom = source != null ? source.getSource() : null;
+    return pom instanceof InputSource || pom instanceof MavenProject;
   }
 
   /**
@@ -859,7 +987,6 @@ public class LifecycleMappingFactory {
       LifecycleMappingMetadataSource embeddedSource = getEmbeddedMetadataSource(project);
       if(embeddedSource != null) {
         detach = true;
-        embeddedSource.setSource(project);
         sources.add(new SimpleMappingMetadataSource(embeddedSource));
       }
 
@@ -961,7 +1088,13 @@ public class LifecycleMappingFactory {
     if(child != null) {
       runOnConfiguration = Boolean.parseBoolean(child.getValue());
     }
-    return new MojoExecutionBuildParticipant(mojoExecution, runOnIncremental, runOnConfiguration);
+    boolean skipUnchangedInputs = false;
+    child = ((PluginExecutionMetadata) executionMetadata).getConfiguration().getChild(ELEMENT_SKIP_UNCHANGED_INPUTS);
+    if(child != null) {
+      skipUnchangedInputs = Boolean.parseBoolean(child.getValue());
+    }
+    return new MojoExecutionBuildParticipant(mojoExecution, runOnIncremental, runOnConfiguration,
+        skipUnchangedInputs);
   }
 
   public static Map<String, IConfigurationElement> getLifecycleMappingExtensions() {
@@ -1013,9 +1146,58 @@ public class LifecycleMappingFactory {
     return null;
   }
 
+  /**
+   * Returns unmodifiable map of project configurator extensions by configurator id. The map is cached until
+   * {@link #resetProjectConfiguratorExtensions()} is called.
+   */
   public static Map<String, IConfigurationElement> getProjectConfiguratorExtensions() {
-    IExtensionRegistry registry = Platform.getExtensionRegistry();
-    return getProjectConfiguratorExtensions(registry);
+    synchronized(configuratorSorters) {
+      if(projectConfiguratorExtensions == null) {
+        IExtensionRegistry registry = Platform.getExtensionRegistry();
+        projectConfiguratorExtensions = Collections.unmodifiableMap(getProjectConfiguratorExtensions(registry));
+      }
+      return projectConfiguratorExtensions;
+    }
+  }
+
+  /**
+   * Discards cached project configurator extensions and everything calculated from them, must be called when project
+   * configurator extensions are added or removed.
+   *
+   * @since 1.10
+   */
+  public static void resetProjectConfiguratorExtensions() {
+    synchronized(configuratorSorters) {
+      projectConfiguratorExtensions = null;
+      configuratorSorters.clear();
+    }
+    resultCache.clear();
+  }
+
+  /**
+   * Returns sorter of the given project configurator ids. Sorters are cached, the configurator dependency graph is only
+   * sorted once for the same configurator ids until project configurator extensions change.
+   */
+  private static ProjectConfigurationElementSorter getProjectConfigurationElementSorter(
+      Collection<String> configuratorIds) throws CycleDetectedException {
+    // sort order of independent configurators depends on iteration order of the ids
+    List<String> key = new ArrayList<>(configuratorIds);
+    Map<String, IConfigurationElement> elements;
+    synchronized(configuratorSorters) {
+      ProjectConfigurationElementSorter sorter = configuratorSorters.get(key);
+      if(sorter != null) {
+        return sorter;
+      }
+      elements = getProjectConfiguratorExtensions();
+    }
+    ProjectConfigurationElementSorter sorter = new ProjectConfigurationElementSorter(new LinkedHashSet<>(key),
+        elements);
+    synchronized(configuratorSorters) {
+      if(elements == projectConfiguratorExtensions) {
+        configuratorSorters.put(key, sorter);
+      }
+    }
+    return sorter;
   }
 
   public static Map<String, IConfigurationElement> getProjectConfiguratorExtensions(IExtensionRegistry registry) {
@@ -1066,6 +1248,49 @@ public class LifecycleMappingFactory {
     }
   }
 
+  /**
+   * Returns parsed lifecycle mapping metadata embedded in pom.xml. Parsed metadata is shared by all projects that
+   * inherit the same metadata from the same declaring pom.xml, its source is set to the {@link InputSource} of the
+   * declaring pom.xml when parsed and is never changed afterwards.
+   */
+  private static LifecycleMappingMetadataSource getEmbeddedMetadataSource(String lifecycleMappingMetadata,
+      InputSource declaringSource) throws IOException, XmlPullParserException {
+    String key = declaringSource.getModelId() + "\n" + declaringSource.getLocation() + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+        + lifecycleMappingMetadata;
+    synchronized(embeddedMetadataSources) {
+      LifecycleMappingMetadataSource metadataSource = embeddedMetadataSources.get(key);
+      if(metadataSource == null) {
+        metadataSource = new LifecycleMappingMetadataSourceXpp3Reader()
+            .read(new StringReader(lifecycleMappingMetadata));
+        postCreateLifecycleMappingMetadataSource(metadataSource);
+        metadataSource.setSource(declaringSource);
+        embeddedMetadataSources.put(key, metadataSource);
+      }
+      return metadataSource;
+    }
+  }
+
+  /**
+   * Returns model id and location of the pom.xml, of mavenProject itself or one of its parents, that declares the
+   * lifecycle mapping plugin configuration. Falls back to mavenProject pom.xml if the declaring model cannot be
+   * determined. The returned instance is a copy and does not reference any project model.
+   */
+  private static InputSource getDeclaringSource(MavenProject mavenProject, Plugin metadataPlugin) {
+    InputLocation location = metadataPlugin.getLocation(SourceLocationHelper.CONFIGURATION);
+    if(location == null || location.getSource() == null) {
+      location = mavenProject.getModel().getLocation(""); //$NON-NLS-1$
+    }
+    InputSource source = new InputSource();
+    if(location != null && location.getSource() != null) {
+      source.setModelId(location.getSource().getModelId());
+      source.setLocation(location.getSource().getLocation());
+    } else {
+      source.setModelId(mavenProject.getId());
+      source.setLocation(mavenProject.getFile() != null ? mavenProject.getFile().getAbsolutePath() : null);
+    }
+    return source;
+  }
+
   private static LifecycleMappingMetadataSource getEmbeddedMetadataSource(MavenProject mavenProject)
       throws CoreException {
     // TODO this does not merge configuration from profiles 
@@ -1079,9 +1304,8 @@ public class LifecycleMappingFactory {
         Xpp3Dom lifecycleMappingDom = configurationDom.getChild(ELEMENT_LIFECYCLE_MAPPING_METADATA);
         if(lifecycleMappingDom != null) {
           try {
-            LifecycleMappingMetadataSource metadataSource = new LifecycleMappingMetadataSourceXpp3Reader()
-                .read(new StringReader(lifecycleMappingDom.toString()));
-            postCreateLifecycleMappingMetadataSource(metadataSource);
+            LifecycleMappingMetadataSource metadataSource = getEmbeddedMetadataSource(lifecycleMappingDom.toString(),
+                getDeclaringSource(mavenProject, metadataPlugin));
             String packagingType = mavenProject.getPackaging();
             if(!"pom".equals(packagingType)) { //$NON-NLS-1$
               for(LifecycleMappingMetadata lifecycleMappingMetadata : metadataSource.getLifecycleMappings()) {
@@ -1204,7 +1428,7 @@ public class LifecycleMappingFactory {
 
   private static LifecycleMappingMetadataSource defaultLifecycleMappingMetadataSource;
 
-  public static LifecycleMappingMetadataSource getDefaultLifecycleMappingMetadataSource() {
+  public synchronized static LifecycleMappingMetadataSource getDefaultLifecycleMappingMetadataSource() {
     if(!useDefaultLifecycleMappingMetadataSource) {
       return null;
     }
@@ -1236,23 +1460,27 @@ public class LifecycleMappingFactory {
     }
   }
 
-  // TODO: cache LifecycleMappingMetadataSource instances
-  private static LifecycleMappingMetadataSource getLifecycleMappingMetadataSource(String groupId, String artifactId,
-      String version, List<ArtifactRepository> repositories, IProgressMonitor monitor) {
+  private static LifecycleMappingMetadataSource getLifecycleMappingMetadataSource(final String groupId,
+      final String artifactId, final String version, List<ArtifactRepository> repositories, IProgressMonitor monitor) {
     IMaven maven = MavenPlugin.getMaven();
     try {
-      Artifact artifact = maven.resolve(groupId, artifactId, version, "xml", LIFECYCLE_MAPPING_METADATA_CLASSIFIER,
-          repositories, monitor);
+      final Artifact artifact = maven.resolve(groupId, artifactId, version, "xml",
+          LIFECYCLE_MAPPING_METADATA_CLASSIFIER, repositories, monitor);
 
       File file = artifact.getFile();
       if(file == null || !file.exists() || !file.canRead()) {
         throw new LifecycleMappingConfigurationException("Cannot find file for artifact " + artifact);
       }
       try {
-        LifecycleMappingMetadataSource metadataSource = createLifecycleMappingMetadataSource(groupId, artifactId,
-            version, file);
-        metadataSource.setSource(artifact);
-        return metadataSource;
+        return getMetadataCache().get(artifact.getId(), file, FILE_METADATA_READER,
+            new LifecycleMappingMetadataCache.MetadataProcessor() {
+              public void process(LifecycleMappingMetadataSource metadataSource) {
+                metadataSource.setGroupId(groupId);
+                metadataSource.setArtifactId(artifactId);
+                metadataSource.setVersion(version);
+                metadataSource.setSource(artifact);
+              }
+            });
       } catch(IOException e) {
         throw new LifecycleMappingConfigurationException("Cannot read lifecycle mapping metadata for " + artifact, e);
       } catch(XmlPullParserException e) {
@@ -1265,18 +1493,13 @@ public class LifecycleMappingFactory {
     }
   }
 
-  private static LifecycleMappingMetadataSource createLifecycleMappingMetadataSource(String groupId, String artifactId,
-      String version, File configuration) throws IOException, XmlPullParserException {
-    InputStream in = new FileInputStream(configuration);
-    try {
-      LifecycleMappingMetadataSource lifecycleMappingMetadataSource = createLifecycleMappingMetadataSource(in);
-      lifecycleMappingMetadataSource.setGroupId(groupId);
-      lifecycleMappingMetadataSource.setArtifactId(artifactId);
-      lifecycleMappingMetadataSource.setVersion(version);
-      return lifecycleMappingMetadataSource;
-    } finally {
-      IOUtil.close(in);
-    }
+  /**
+   * Reads and parses lifecycle mapping metadata provided by installed bundles and the default metadata, so that they
+   * are available when lifecycle mapping of the first project is calculated.
+   */
+  public static void loadMetadataSources() {
+    getBundleMetadataSources();
+    getDefaultLifecycleMappingMetadataSource();
   }
 
   /**
@@ -1386,9 +1609,8 @@ public class LifecycleMappingFactory {
     }
 
     Map<String, AbstractProjectConfigurator> configurators = new LinkedHashMap<>(unsorted.size());
-    Map<String, IConfigurationElement> elements = getProjectConfiguratorExtensions();
     try {
-      ProjectConfigurationElementSorter sorter = new ProjectConfigurationElementSorter(unsorted.keySet(), elements);
+      ProjectConfigurationElementSorter sorter = getProjectConfigurationElementSorter(unsorted.keySet());
       List<String> sortedConfigurators = sorter.getSortedConfigurators();
       log.debug("{} is configured by :", facade.getProject().getName());
       for(String id : sortedConfigurators) {
@@ -1474,5 +1696,6 @@ public class LifecycleMappingFactory {
    */
   public synchronized static void setBundleMetadataSources(List<LifecycleMappingMetadataSource> bundleMetadataSources) {
     LifecycleMappingFactory.bundleMetadataSources = bundleMetadataSources;
+    resultCache.clear();
   }
 }
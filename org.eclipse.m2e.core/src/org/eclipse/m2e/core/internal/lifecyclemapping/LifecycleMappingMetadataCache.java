@@ -0,0 +1,353 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.codehaus.plexus.util.IOUtil;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+
+
+/**
+ * Cache of lifecycle mapping metadata read from artifact files, i.e. lifecycle mapping metadata artifacts and maven
+ * plugin jars with embedded metadata. Parsed metadata is kept in memory, raw metadata and absence of metadata are
+ * also persisted on disk, so that plugin jars do not need to be opened again after restart. Cache entries are
+ * validated against artifact coordinates, file size, file timestamp and repository checksum of the file.
+ * <p>
+ * The cache is persisted as versioned properties file, persisted cache of different format version is discarded.
+ *
+ * @since 1.10
+ */
+public class LifecycleMappingMetadataCache {
+  private static final Logger log = LoggerFactory.getLogger(LifecycleMappingMetadataCache.class);
+
+  private static final String CHECKSUM_EXTENSION = ".sha1"; //$NON-NLS-1$
+
+  /** format version of persisted cache, must be changed whenever the format changes */
+  private static final String FORMAT_VERSION = "1"; //$NON-NLS-1$
+
+  private static final String PROP_VERSION = "version"; //$NON-NLS-1$
+
+  private static final String PROP_COUNT = "count"; //$NON-NLS-1$
+
+  private static final String PROP_FILE = ".file"; //$NON-NLS-1$
+
+  private static final String PROP_COORDINATES = ".coordinates"; //$NON-NLS-1$
+
+  private static final String PROP_SIZE = ".size"; //$NON-NLS-1$
+
+  private static final String PROP_LAST_MODIFIED = ".lastModified"; //$NON-NLS-1$
+
+  private static final String PROP_CHECKSUM = ".checksum"; //$NON-NLS-1$
+
+  private static final String PROP_CONTENT = ".content"; //$NON-NLS-1$
+
+  /**
+   * Reads raw lifecycle mapping metadata from artifact file.
+   */
+  public static interface ContentReader {
+    /**
+     * Returns raw lifecycle mapping metadata or {@code null} if the file does not provide any metadata.
+     */
+    byte[] read(File file) throws IOException;
+  }
+
+  /**
+   * Completes parsed lifecycle mapping metadata before it is cached and shared.
+   */
+  public static interface MetadataProcessor {
+    void process(LifecycleMappingMetadataSource metadata);
+  }
+
+  private static class Entry {
+    final String coordinates;
+
+    final long size;
+
+    final long lastModified;
+
+    final String checksum;
+
+    /** raw metadata, {@code null} for files without metadata */
+    final byte[] content;
+
+    LifecycleMappingMetadataSource metadata;
+
+    Entry(String coordinates, long size, long lastModified, String checksum, byte[] content) {
+      this.coordinates = coordinates;
+      this.size = size;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+      this.content = content;
+    }
+
+    boolean isValid(String coordinates, long size, long lastModified, String checksum) {
+      return this.coordinates.equals(coordinates) && this.size == size && this.lastModified == lastModified
+          && (this.checksum != null ? this.checksum.equals(checksum) : checksum == null);
+    }
+  }
+
+  private final File cacheFile;
+
+  /** entries by absolute artifact file path, lazily loaded from cacheFile */
+  private Map<String, Entry> entries;
+
+  private boolean dirty;
+
+  private long hits;
+
+  private long negativeHits;
+
+  private long diskHits;
+
+  private long misses;
+
+  /**
+   * @param cacheFile file used to persist the cache, or {@code null} for in-memory only cache
+   */
+  public LifecycleMappingMetadataCache(File cacheFile) {
+    this.cacheFile = cacheFile;
+  }
+
+  /**
+   * Returns lifecycle mapping metadata of the given artifact file, or {@code null} if the file does not provide any
+   * metadata. The given processor, if any, is applied once to newly parsed metadata before it is cached. Returned
+   * instances are shared, possibly by concurrent callers, and must not be modified.
+   */
+  public LifecycleMappingMetadataSource get(String coordinates, File file, ContentReader reader,
+      MetadataProcessor processor) throws IOException, XmlPullParserException {
+    String key = file.getAbsolutePath();
+    long size = file.length();
+    long lastModified = file.lastModified();
+    String checksum = readChecksum(file);
+
+    Entry entry;
+    synchronized(this) {
+      entry = getEntries().get(key);
+      if(entry != null && !entry.isValid(coordinates, size, lastModified, checksum)) {
+        entry = null;
+      }
+      if(entry != null) {
+        if(entry.content == null) {
+          negativeHits++ ;
+          hits++ ;
+          return null;
+        }
+        if(entry.metadata != null) {
+          hits++ ;
+          return entry.metadata;
+        }
+        diskHits++ ;
+      } else {
+        misses++ ;
+      }
+    }
+
+    if(entry == null) {
+      entry = new Entry(coordinates, size, lastModified, checksum, reader.read(file));
+    }
+    LifecycleMappingMetadataSource metadata = null;
+    if(entry.content != null) {
+      metadata = LifecycleMappingFactory.createLifecycleMappingMetadataSource(new ByteArrayInputStream(entry.content));
+      if(processor != null) {
+        processor.process(metadata);
+      }
+    }
+
+    synchronized(this) {
+      Entry current = getEntries().get(key);
+      if(current != null && current != entry && current.isValid(coordinates, size, lastModified, checksum)) {
+        if(current.metadata != null) {
+          // other thread was faster, use its instance
+          return current.metadata;
+        }
+        entry = current;
+      } else if(current != entry) {
+        getEntries().put(key, entry);
+        dirty = true;
+      }
+      entry.metadata = metadata;
+    }
+
+    return metadata;
+  }
+
+  private static String readChecksum(File file) {
+    File checksumFile = new File(file.getPath() + CHECKSUM_EXTENSION);
+    if(!checksumFile.isFile()) {
+      return null;
+    }
+    try {
+      InputStream is = new FileInputStream(checksumFile);
+      try {
+        String checksum = IOUtil.toString(is, "UTF-8").trim(); //$NON-NLS-1$
+        int idx = checksum.indexOf(' ');
+        return idx > 0 ? checksum.substring(0, idx) : checksum;
+      } finally {
+        IOUtil.close(is);
+      }
+    } catch(IOException e) {
+      return null;
+    }
+  }
+
+  private Map<String, Entry> getEntries() {
+    if(entries == null) {
+      entries = readEntries();
+    }
+    return entries;
+  }
+
+  private Map<String, Entry> readEntries() {
+    Map<String, Entry> result = new HashMap<String, Entry>();
+    if(cacheFile == null || !cacheFile.isFile()) {
+      return result;
+    }
+    Properties properties = new Properties();
+    try {
+      InputStream is = new BufferedInputStream(new FileInputStream(cacheFile));
+      try {
+        properties.load(is);
+      } finally {
+        IOUtil.close(is);
+      }
+      if(!FORMAT_VERSION.equals(properties.getProperty(PROP_VERSION))) {
+        log.debug("Discarding lifecycle mapping metadata cache {} of different format version", cacheFile);
+        return result;
+      }
+      int count = Integer.parseInt(properties.getProperty(PROP_COUNT, "0")); //$NON-NLS-1$
+      for(int i = 0; i < count; i++ ) {
+        String prefix = Integer.toString(i);
+        String file = properties.getProperty(prefix + PROP_FILE);
+        String coordinates = properties.getProperty(prefix + PROP_COORDINATES);
+        if(file == null || coordinates == null) {
+          continue;
+        }
+        long size = Long.parseLong(properties.getProperty(prefix + PROP_SIZE));
+        long lastModified = Long.parseLong(properties.getProperty(prefix + PROP_LAST_MODIFIED));
+        String checksum = properties.getProperty(prefix + PROP_CHECKSUM);
+        String content = properties.getProperty(prefix + PROP_CONTENT);
+        result.put(file, new Entry(coordinates, size, lastModified, checksum,
+            content != null ? Base64.getDecoder().decode(content) : null));
+      }
+      return result;
+    } catch(IOException ex) {
+      log.warn("Could not read lifecycle mapping metadata cache {}", cacheFile, ex);
+    } catch(IllegalArgumentException ex) {
+      // malformed numbers or content
+      log.warn("Could not read lifecycle mapping metadata cache {}", cacheFile, ex);
+    }
+    return new HashMap<String, Entry>();
+  }
+
+  /**
+   * Persists the cache if it was changed since it was last read or written. Entries of files that no longer exist are
+   * discarded.
+   */
+  public synchronized void write() {
+    log.debug("Lifecycle mapping metadata cache: {} hits ({} negative, {} from disk), {} misses", hits, negativeHits,
+        diskHits, misses);
+    if(cacheFile == null || entries == null) {
+      return;
+    }
+    for(Iterator<String> iter = entries.keySet().iterator(); iter.hasNext();) {
+      if(!new File(iter.next()).isFile()) {
+        iter.remove();
+        dirty = true;
+      }
+    }
+    if(!dirty) {
+      return;
+    }
+    try {
+      cacheFile.getParentFile().mkdirs();
+      OutputStream os = new BufferedOutputStream(new FileOutputStream(cacheFile));
+      try {
+        toProperties().store(os, null);
+      } finally {
+        IOUtil.close(os);
+      }
+      dirty = false;
+    } catch(IOException ex) {
+      log.warn("Could not write lifecycle mapping metadata cache {}", cacheFile, ex);
+    }
+  }
+
+  private Properties toProperties() {
+    Properties properties = new Properties();
+    properties.setProperty(PROP_VERSION, FORMAT_VERSION);
+    int i = 0;
+    for(Map.Entry<String, Entry> mapEntry : entries.entrySet()) {
+      String prefix = Integer.toString(i++ );
+      Entry entry = mapEntry.getValue();
+      properties.setProperty(prefix + PROP_FILE, mapEntry.getKey());
+      properties.setProperty(prefix + PROP_COORDINATES, entry.coordinates);
+      properties.setProperty(prefix + PROP_SIZE, Long.toString(entry.size));
+      properties.setProperty(prefix + PROP_LAST_MODIFIED, Long.toString(entry.lastModified));
+      if(entry.checksum != null) {
+        properties.setProperty(prefix + PROP_CHECKSUM, entry.checksum);
+      }
+      if(entry.content != null) {
+        properties.setProperty(prefix + PROP_CONTENT, Base64.getEncoder().encodeToString(entry.content));
+      }
+    }
+    properties.setProperty(PROP_COUNT, Integer.toString(i));
+    return properties;
+  }
+
+  public synchronized void clear() {
+    entries = new HashMap<String, Entry>();
+    dirty = true;
+  }
+
+  public synchronized long getHitCount() {
+    return hits;
+  }
+
+  public synchronized long getNegativeHitCount() {
+    return negativeHits;
+  }
+
+  public synchronized long getDiskHitCount() {
+    return diskHits;
+  }
+
+  public synchronized long getMissCount() {
+    return misses;
+  }
+
+  /**
+   * Returns ratio of lookups that did not need to read artifact file, including lookups answered from disk.
+   */
+  public synchronized double getHitRate() {
+    long total = hits + diskHits + misses;
+    return total > 0 ? (double) (hits + diskHits) / total : 0;
+  }
+}
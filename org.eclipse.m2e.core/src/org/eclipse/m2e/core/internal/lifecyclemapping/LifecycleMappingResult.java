@@ -34,6 +34,8 @@ public class LifecycleMappingResult {
 
   private Map<String, AbstractProjectConfigurator> configurators;
 
+  private boolean projectSpecific;
+
   public String getLifecycleMappingId() {
     if(lifecycleMapping != null) {
       return lifecycleMapping.getId();
@@ -88,4 +90,16 @@ public class LifecycleMappingResult {
     this.configurators = configurators;
   }
 
+  /**
+   * Returns {@code true} if mojo execution mapping depends on project specific mojo parameter values and cannot be
+   * reused for other projects with the same plugin configuration.
+   */
+  boolean isProjectSpecific() {
+    return projectSpecific;
+  }
+
+  void setProjectSpecific(boolean projectSpecific) {
+    this.projectSpecific = projectSpecific;
+  }
+
 }
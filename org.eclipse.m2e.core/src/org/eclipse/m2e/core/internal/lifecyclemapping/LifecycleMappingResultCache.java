@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.MojoExecution;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.markers.MavenProblemInfo;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Effective lifecycle mapping metadata calculated for projects with the same packaging, mojo executions and metadata
+ * sources. Modules of a multi-module build usually inherit their plugin configuration from the same parent, this
+ * allows such modules to share the calculation. Metadata sources are identified by identity of parsed metadata, which
+ * is cached and shared by all projects using it.
+ *
+ * @since 1.10
+ */
+class LifecycleMappingResultCache {
+
+  private static final int CACHE_SIZE = 256;
+
+  private static class Entry {
+    final LifecycleMappingMetadata lifecycleMappingMetadata;
+
+    final Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping;
+
+    final List<MavenProblemInfo> problems;
+
+    Entry(LifecycleMappingMetadata lifecycleMappingMetadata,
+        Map<MojoExecutionKey, List<IPluginExecutionMetadata>> mojoExecutionMapping, List<MavenProblemInfo> problems) {
+      this.lifecycleMappingMetadata = lifecycleMappingMetadata;
+      this.mojoExecutionMapping = mojoExecutionMapping;
+      this.problems = problems;
+    }
+  }
+
+  private final Map<List<Object>, Entry> entries = new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    protected boolean removeEldestEntry(Map.Entry<List<Object>, Entry> eldest) {
+      return size() > CACHE_SIZE;
+    }
+  };
+
+  /**
+   * Returns cache key for the given project packaging, mojo executions and metadata sources, or {@code null} if
+   * mapping calculated from these metadata sources cannot be shared with other projects.
+   */
+  public static List<Object> getKey(String packaging, List<MappingMetadataSource> metadataSources,
+      List<MojoExecution> mojoExecutions) {
+    List<Object> sources = new ArrayList<Object>();
+    for(MappingMetadataSource source : metadataSources) {
+      if(!(source instanceof SimpleMappingMetadataSource)) {
+        // i.e. annotations in project pom.xml
+        return null;
+      }
+      sources.add(new ArrayList<Object>(((SimpleMappingMetadataSource) source).getSources()));
+    }
+    List<MojoExecutionKey> executions = new ArrayList<MojoExecutionKey>();
+    if(mojoExecutions != null) {
+      for(MojoExecution execution : mojoExecutions) {
+        executions.add(new MojoExecutionKey(execution));
+      }
+    }
+    return Arrays.<Object> asList(packaging, executions, sources);
+  }
+
+  /**
+   * Populates the result with cached metadata, returns {@code false} if there is no cached metadata for the key.
+   */
+  public boolean get(List<Object> key, LifecycleMappingResult result) {
+    Entry entry;
+    synchronized(entries) {
+      entry = entries.get(key);
+    }
+    if(entry == null) {
+      return false;
+    }
+    result.setLifecycleMappingMetadata(entry.lifecycleMappingMetadata);
+    result.setMojoExecutionMapping(
+        new LinkedHashMap<MojoExecutionKey, List<IPluginExecutionMetadata>>(entry.mojoExecutionMapping));
+    for(MavenProblemInfo problem : entry.problems) {
+      result.addProblem(problem);
+    }
+    return true;
+  }
+
+  /**
+   * Caches metadata of the result, problems reported before {@code firstProblem} are not cached.
+   */
+  public void put(List<Object> key, LifecycleMappingResult result, int firstProblem) {
+    if(result.isProjectSpecific() || result.getMojoExecutionMapping() == null) {
+      return;
+    }
+    List<MavenProblemInfo> problems = result.getProblems();
+    Entry entry = new Entry(result.getLifecycleMappingMetadata(),
+        new LinkedHashMap<MojoExecutionKey, List<IPluginExecutionMetadata>>(result.getMojoExecutionMapping()),
+        new ArrayList<MavenProblemInfo>(problems.subList(firstProblem, problems.size())));
+    synchronized(entries) {
+      entries.put(key, entry);
+    }
+  }
+
+  public void clear() {
+    synchronized(entries) {
+      entries.clear();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.core.internal.lifecyclemapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.artifact.versioning.VersionRange;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+
+
+/**
+ * Plugin execution metadata indexed by plugin groupId:artifactId with pre-parsed version ranges, answers the same
+ * queries as {@link PluginExecutionFilter#match(MojoExecutionKey)} applied to all metadata, in the same order.
+ * Metadata with incomplete or invalid filters is not indexed and is always matched using the filter, so that such
+ * metadata is reported the same way as before.
+ *
+ * @since 1.10
+ */
+class PluginExecutionMetadataIndex {
+
+  private static class Rule {
+    final int ordinal;
+
+    final PluginExecutionMetadata metadata;
+
+    /** {@code null} for rules that are matched using the filter */
+    final VersionRange versionRange;
+
+    Rule(int ordinal, PluginExecutionMetadata metadata, VersionRange versionRange) {
+      this.ordinal = ordinal;
+      this.metadata = metadata;
+      this.versionRange = versionRange;
+    }
+
+    boolean match(MojoExecutionKey execution, DefaultArtifactVersion version) {
+      if(versionRange == null) {
+        return metadata.getFilter().match(execution);
+      }
+      return versionRange.containsVersion(version) && metadata.getFilter().getGoals().contains(execution.getGoal());
+    }
+  }
+
+  private final Map<String, List<Rule>> rules = new HashMap<>();
+
+  private final List<Rule> unindexedRules = new ArrayList<>();
+
+  private final List<PluginExecutionMetadata> metadatas;
+
+  public PluginExecutionMetadataIndex(List<PluginExecutionMetadata> metadatas) {
+    this.metadatas = new ArrayList<>(metadatas);
+    int ordinal = 0;
+    for(PluginExecutionMetadata metadata : metadatas) {
+      PluginExecutionFilter filter = metadata.getFilter();
+      VersionRange versionRange = getVersionRange(filter);
+      if(versionRange != null) {
+        String key = getKey(filter.getGroupId(), filter.getArtifactId());
+        List<Rule> keyRules = rules.get(key);
+        if(keyRules == null) {
+          keyRules = new ArrayList<>(1);
+          rules.put(key, keyRules);
+        }
+        keyRules.add(new Rule(ordinal, metadata, versionRange));
+      } else {
+        unindexedRules.add(new Rule(ordinal, metadata, null));
+      }
+      ordinal++ ;
+    }
+  }
+
+  /**
+   * Returns {@code true} if this index was built from the same metadata instances, in the same order.
+   */
+  public boolean isIndexOf(List<PluginExecutionMetadata> metadatas) {
+    if(this.metadatas.size() != metadatas.size()) {
+      return false;
+    }
+    for(int i = 0; i < metadatas.size(); i++ ) {
+      if(this.metadatas.get(i) != metadatas.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static VersionRange getVersionRange(PluginExecutionFilter filter) {
+    if(filter == null || filter.getGroupId() == null || filter.getArtifactId() == null
+        || filter.getVersionRange() == null || filter.getGoals() == null || filter.getGoals().isEmpty()) {
+      return null;
+    }
+    try {
+      return VersionRange.createFromVersionSpec(filter.getVersionRange());
+    } catch(InvalidVersionSpecificationException e) {
+      return null;
+    }
+  }
+
+  private static String getKey(String groupId, String artifactId) {
+    return groupId + ":" + artifactId; //$NON-NLS-1$
+  }
+
+  public List<PluginExecutionMetadata> getPluginExecutionMetadata(MojoExecutionKey execution) {
+    List<Rule> keyRules = rules.get(getKey(execution.getGroupId(), execution.getArtifactId()));
+    if(keyRules == null) {
+      keyRules = Collections.emptyList();
+    }
+    if(keyRules.isEmpty() && unindexedRules.isEmpty()) {
+      return new ArrayList<>();
+    }
+    DefaultArtifactVersion version = new DefaultArtifactVersion(execution.getVersion());
+    List<PluginExecutionMetadata> result = new ArrayList<>();
+    // merge both ordered lists to preserve original metadata order
+    int i = 0, j = 0;
+    while(i < keyRules.size() || j < unindexedRules.size()) {
+      Rule rule;
+      if(j >= unindexedRules.size()
+          || (i < keyRules.size() && keyRules.get(i).ordinal < unindexedRules.get(j).ordinal)) {
+        rule = keyRules.get(i++ );
+      } else {
+        rule = unindexedRules.get(j++ );
+      }
+      if(rule.match(execution, version)) {
+        result.add(rule.metadata);
+      }
+    }
+    return result;
+  }
+}
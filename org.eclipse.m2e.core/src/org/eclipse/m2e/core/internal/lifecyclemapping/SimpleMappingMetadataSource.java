@@ -33,10 +33,16 @@ public class SimpleMappingMetadataSource implements MappingMetadataSource {
 
   private final List<PluginExecutionMetadata> pluginExecutions = new ArrayList<>();
 
+  private final PluginExecutionMetadataIndex pluginExecutionIndex;
+
   public SimpleMappingMetadataSource(LifecycleMappingMetadataSource source) {
     this.sources.add(source);
     this.lifecycleMappings.addAll(source.getLifecycleMappings());
     this.pluginExecutions.addAll(source.getPluginExecutions());
+    synchronized(source) {
+      this.pluginExecutionIndex = getIndex(source.getPluginExecutionIndex(), pluginExecutions);
+      source.setPluginExecutionIndex(pluginExecutionIndex);
+    }
   }
 
   public SimpleMappingMetadataSource(List<LifecycleMappingMetadataSource> sources) {
@@ -45,11 +51,28 @@ public class SimpleMappingMetadataSource implements MappingMetadataSource {
       this.lifecycleMappings.addAll(source.getLifecycleMappings());
       this.pluginExecutions.addAll(source.getPluginExecutions());
     }
+    this.pluginExecutionIndex = new PluginExecutionMetadataIndex(pluginExecutions);
   }
 
   public SimpleMappingMetadataSource(LifecycleMappingMetadata lifecycleMapping) {
     //this.lifecycleMappings.add(lifecycleMapping);
     this.pluginExecutions.addAll(lifecycleMapping.getPluginExecutions());
+    synchronized(lifecycleMapping) {
+      this.pluginExecutionIndex = getIndex(lifecycleMapping.getPluginExecutionIndex(), pluginExecutions);
+      lifecycleMapping.setPluginExecutionIndex(pluginExecutionIndex);
+    }
+  }
+
+  /**
+   * Returns the index kept with the metadata, so it is built once and shared by all projects using the metadata, or a
+   * new index if there is none or plugin executions of the metadata were changed since it was built.
+   */
+  private static PluginExecutionMetadataIndex getIndex(Object index, List<PluginExecutionMetadata> pluginExecutions) {
+    if(index instanceof PluginExecutionMetadataIndex
+        && ((PluginExecutionMetadataIndex) index).isIndexOf(pluginExecutions)) {
+      return (PluginExecutionMetadataIndex) index;
+    }
+    return new PluginExecutionMetadataIndex(pluginExecutions);
   }
 
   public List<LifecycleMappingMetadataSource> getSources() {
@@ -73,15 +96,10 @@ public class SimpleMappingMetadataSource implements MappingMetadataSource {
   }
 
   public List<PluginExecutionMetadata> getPluginExecutionMetadata(MojoExecutionKey execution) {
-    ArrayList<PluginExecutionMetadata> mappings = new ArrayList<PluginExecutionMetadata>();
-    if(execution != null) {
-      for(PluginExecutionMetadata mapping : pluginExecutions) {
-        if(mapping.getFilter().match(execution)) {
-          mappings.add(mapping);
-        }
-      }
+    if(execution == null) {
+      return new ArrayList<PluginExecutionMetadata>();
     }
-    return mappings;
+    return pluginExecutionIndex.getPluginExecutionMetadata(execution);
   }
 
 }
@@ -78,4 +78,15 @@ public interface IMavenMarkerManager {
   void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) throws CoreException;
 
   void addErrorMarker(IResource resource, String type, MavenProblemInfo problem);
+
+  /**
+   * Makes markers of the specified type on an IResource match the given problems. Markers of problems that are already
+   * present are kept, obsolete markers are deleted and missing markers are created in a single workspace operation. If
+   * attrName is not null, only markers with the specified attribute value are considered and the attribute is set on
+   * created markers.
+   * 
+   * @since 1.10
+   */
+  void updateMarkers(IResource resource, String type, String attrName, String attrValue,
+      List<MavenProblemInfo> problems) throws CoreException;
 }
@@ -12,7 +12,11 @@
 package org.eclipse.m2e.core.internal.markers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -22,7 +26,10 @@ import com.google.common.base.Throwables;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.osgi.util.NLS;
 
@@ -291,11 +298,105 @@ public class MavenMarkerManager implements IMavenMarkerManager {
 
   @Override
   public void addErrorMarkers(IResource resource, String type, List<MavenProblemInfo> problems) {
-    for(MavenProblemInfo problem : problems) {
-      addErrorMarker(resource, type, problem);
+    try {
+      reconcileMarkers(resource, type, null, null, problems, false /*deleteObsolete*/);
+    } catch(CoreException ex) {
+      log.error("Unable to add markers; " + ex.toString(), ex); //$NON-NLS-1$
     }
   }
 
+  @Override
+  public void updateMarkers(IResource resource, String type, String attrName, String attrValue,
+      List<MavenProblemInfo> problems) throws CoreException {
+    reconcileMarkers(resource, type, attrName, attrValue, problems, true /*deleteObsolete*/);
+  }
+
+  /**
+   * Creates markers for problems that do not have matching marker yet and, if requested, deletes markers that do not
+   * match any of the problems. Problem specific attributes are applied to both new and kept markers, failure to apply
+   * them to one marker is logged and does not affect other markers. Existing markers are read once and all changes
+   * are applied in a single workspace operation.
+   */
+  private void reconcileMarkers(final IResource resource, final String type, final String attrName,
+      final String attrValue, final List<MavenProblemInfo> problems, final boolean deleteObsolete)
+      throws CoreException {
+    if(resource == null || !resource.isAccessible()) {
+      return;
+    }
+    IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+      public void run(IProgressMonitor monitor) throws CoreException {
+        String[] attrNames = attrName != null
+            ? new String[] {IMarker.MESSAGE, IMarker.LINE_NUMBER, IMarker.SEVERITY, IMarker.TRANSIENT, attrName}
+            : new String[] {IMarker.MESSAGE, IMarker.LINE_NUMBER, IMarker.SEVERITY, IMarker.TRANSIENT};
+
+        Map<List<Object>, List<IMarker>> existing = new HashMap<List<Object>, List<IMarker>>();
+        List<IMarker> obsolete = new ArrayList<IMarker>();
+        for(IMarker marker : resource.findMarkers(type, false /*includeSubtypes*/, IResource.DEPTH_ZERO)) {
+          Object[] values = marker.getAttributes(attrNames);
+          if(attrName != null && !eq(attrValue, values[4])) {
+            // not managed by this call
+            continue;
+          }
+          if(!eq(Boolean.FALSE, values[3])) {
+            obsolete.add(marker);
+            continue;
+          }
+          List<Object> key = Arrays.asList(values[0], values[1], values[2]);
+          List<IMarker> markers = existing.get(key);
+          if(markers == null) {
+            markers = new ArrayList<IMarker>(1);
+            existing.put(key, markers);
+          }
+          markers.add(marker);
+        }
+
+        Set<List<Object>> present = new HashSet<List<Object>>();
+        for(MavenProblemInfo problem : problems) {
+          int lineNumber = problem.getLocation().getLineNumber();
+          if(lineNumber == -1) {
+            lineNumber = 1;
+          }
+          List<Object> key = Arrays.<Object> asList(problem.getMessage(), lineNumber, problem.getSeverity());
+          if(!present.add(key)) {
+            // duplicate problem
+            continue;
+          }
+          IMarker marker;
+          List<IMarker> markers = existing.get(key);
+          if(markers != null && !markers.isEmpty()) {
+            // this marker already exists, keep it but update problem specific attributes
+            marker = markers.remove(0);
+          } else {
+            marker = resource.createMarker(type);
+            marker.setAttributes(
+                new String[] {IMarker.MESSAGE, IMarker.SEVERITY, IMarker.TRANSIENT, IMarker.LINE_NUMBER},
+                new Object[] {problem.getMessage(), problem.getSeverity(), false, lineNumber});
+            if(attrName != null) {
+              marker.setAttribute(attrName, attrValue);
+            }
+            log.debug("Created marker '{}' on resource '{}'.", problem.getMessage(), resource.getFullPath());
+          }
+          try {
+            problem.processMarker(marker);
+          } catch(CoreException ex) {
+            log.error(ex.getMessage(), ex);
+          }
+          MarkerUtils.decorateMarker(marker);
+        }
+
+        if(deleteObsolete) {
+          for(List<IMarker> markers : existing.values()) {
+            obsolete.addAll(markers);
+          }
+          if(!obsolete.isEmpty()) {
+            resource.getWorkspace().deleteMarkers(obsolete.toArray(new IMarker[obsolete.size()]));
+          }
+        }
+      }
+    };
+    resource.getWorkspace().run(runnable, null /*rule*/, IWorkspace.AVOID_UPDATE, null /*monitor*/);
+  }
+
   @Override
   public void addErrorMarker(IResource resource, String type, MavenProblemInfo problem) {
     IMarker marker = addMarker(resource, type, problem.getMessage(), problem.getLocation().getLineNumber(),
@@ -12,7 +12,11 @@
 package org.eclipse.m2e.core.internal.markers;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.core.resources.IResource;
@@ -50,6 +54,8 @@ public class SourceLocationHelper {
 
   private static final int COLUMN_END_OFFSET = 1;
 
+  private static final String CTX_LOCATION_INDEX = SourceLocationHelper.class.getName() + "/locationIndex"; //$NON-NLS-1$
+
   public static SourceLocation findPackagingLocation(MavenProject mavenProject) {
     InputLocation inputLocation = mavenProject.getModel().getLocation(PACKAGING);
     if(inputLocation != null) {
@@ -93,7 +99,13 @@ public class SourceLocationHelper {
   }
 
   public static SourceLocation findLocation(MavenProject mavenProject, MojoExecutionKey mojoExecutionKey) {
-    Plugin plugin = mavenProject.getPlugin(mojoExecutionKey.getGroupId() + ":" + mojoExecutionKey.getArtifactId());
+    LocationIndex index = getLocationIndex(mavenProject);
+    String pluginKey = mojoExecutionKey.getGroupId() + ":" + mojoExecutionKey.getArtifactId();
+    return index.executionLocations.computeIfAbsent(pluginKey + "/" + mojoExecutionKey.getExecutionId(), //$NON-NLS-1$
+        k -> findLocation(mavenProject, index.getPlugin(pluginKey), mojoExecutionKey.getExecutionId()));
+  }
+
+  private static SourceLocation findLocation(MavenProject mavenProject, Plugin plugin, String executionId) {
 
     InputLocation inputLocation = plugin.getLocation(SELF);
     if(inputLocation == null) {
@@ -111,7 +123,7 @@ public class SourceLocationHelper {
     }
 
     String elementName;
-    InputLocation executionInputLocation = findExecutionLocation(plugin, mojoExecutionKey.getExecutionId());
+    InputLocation executionInputLocation = findExecutionLocation(plugin, executionId);
     if(executionInputLocation != null) {
       inputLocation = executionInputLocation;
       elementName = EXECUTION;
@@ -155,13 +167,13 @@ public class SourceLocationHelper {
     return pluginExecution.getLocation(SELF);
   }
 
-  private static org.apache.maven.model.Dependency getMavenDependency(MavenProject mavenProject,
-      Dependency dependency) {
-    org.apache.maven.model.Dependency found = findDependency(mavenProject.getDependencies(), dependency);
+  private static org.apache.maven.model.Dependency getMavenDependency(MavenProject mavenProject, LocationIndex index,
+      String dependencyKey) {
+    org.apache.maven.model.Dependency found = index.getDependencies().get(dependencyKey);
     if(found == null) {
       DependencyManagement depMgmt = mavenProject.getModel().getDependencyManagement();
       if(depMgmt != null) {
-        found = findDependency(depMgmt.getDependencies(), dependency);
+        found = index.getManagedDependencies().get(dependencyKey);
 
         if(found != null) {
 
@@ -172,7 +184,8 @@ public class SourceLocationHelper {
           if(!projectId.equals(depId)) {
             // let's see if it comes from a directly imported pom
             DependencyManagement origMgmt = mavenProject.getOriginalModel().getDependencyManagement();
-            org.apache.maven.model.Dependency importDep = findDependencyImport(origMgmt, depId);
+            org.apache.maven.model.Dependency importDep = origMgmt != null ? index.getImportedDependencies().get(depId)
+                : null;
             if(importDep != null) {
               // use it to show marker on
               found = importDep;
@@ -186,47 +199,25 @@ public class SourceLocationHelper {
     return found;
   }
 
-  private static org.apache.maven.model.Dependency findDependencyImport(DependencyManagement origMgmt, String depId) {
-    if(origMgmt != null) {
-      for(org.apache.maven.model.Dependency dependency : origMgmt.getDependencies()) {
-
-        if("import".equals(dependency.getScope()) && "pom".equals(dependency.getType())) {
-          String importId = dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion();
-          if(depId.equals(importId)) {
-            return dependency;
-          }
-        }
-      }
-    }
-    return null;
-  }
-
-  private static org.apache.maven.model.Dependency findDependency(List<org.apache.maven.model.Dependency> dependencies,
-      Dependency dependency) {
-    for(org.apache.maven.model.Dependency mavenDependency : dependencies) {
-      if(mavenDependency.getArtifactId().equals(dependency.getArtifact().getArtifactId())
-          && mavenDependency.getGroupId().equals(dependency.getArtifact().getGroupId())
-          && mavenDependency.getVersion().equals(dependency.getArtifact().getVersion())
-          && eq(mavenDependency.getClassifier(), dependency.getArtifact().getClassifier())) {
-        return mavenDependency;
-      }
+  private static String getDependencyKey(String groupId, String artifactId, String version, String classifier) {
+    if(classifier != null && classifier.trim().length() == 0) {
+      classifier = null;
     }
-    return null;
+    return groupId + ":" + artifactId + ":" + version + ":" + (classifier != null ? classifier : ""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
   }
 
-  private static <T> boolean eq(String s1, String s2) {
-    if(s1 != null && s1.trim().length() == 0) {
-      s1 = null;
-    }
-    if(s2 != null && s2.trim().length() == 0) {
-      s2 = null;
-    }
-    return s1 != null ? s1.equals(s2) : s2 == null;
+  private static String getDependencyKey(org.apache.maven.model.Dependency dependency) {
+    return getDependencyKey(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion(),
+        dependency.getClassifier());
   }
 
   public static SourceLocation findLocation(MavenProject mavenProject, Dependency dependency) {
-    org.apache.maven.model.Dependency mavenDependency = getMavenDependency(mavenProject, dependency);
-    return findLocation(mavenProject, mavenDependency);
+    LocationIndex index = getLocationIndex(mavenProject);
+    org.eclipse.aether.artifact.Artifact artifact = dependency.getArtifact();
+    String dependencyKey = getDependencyKey(artifact.getGroupId(), artifact.getArtifactId(), artifact.getVersion(),
+        artifact.getClassifier());
+    return index.dependencyLocations.computeIfAbsent(dependencyKey,
+        k -> findLocation(mavenProject, getMavenDependency(mavenProject, index, dependencyKey)));
   }
 
   public static SourceLocation findLocation(MavenProject mavenProject, org.apache.maven.model.Dependency dependency) {
@@ -258,4 +249,97 @@ public class SourceLocationHelper {
         inputLocation.getColumnNumber() - PARENT.length() - COLUMN_START_OFFSET,
         inputLocation.getColumnNumber() - COLUMN_END_OFFSET, causeLocation);
   }
+
+  private static LocationIndex getLocationIndex(MavenProject mavenProject) {
+    synchronized(mavenProject) {
+      LocationIndex index = (LocationIndex) mavenProject.getContextValue(CTX_LOCATION_INDEX);
+      if(index == null) {
+        index = new LocationIndex(mavenProject);
+        mavenProject.setContextValue(CTX_LOCATION_INDEX, index);
+      }
+      return index;
+    }
+  }
+
+  /**
+   * Plugins and dependencies of a MavenProject indexed by their keys, and source locations already found for the
+   * project. Avoids repeated walks over project model when many problems are reported for the same project.
+   */
+  private static class LocationIndex {
+    private final MavenProject mavenProject;
+
+    final Map<String, SourceLocation> executionLocations = new ConcurrentHashMap<>();
+
+    final Map<String, SourceLocation> dependencyLocations = new ConcurrentHashMap<>();
+
+    private Map<String, Plugin> plugins;
+
+    private Map<String, org.apache.maven.model.Dependency> dependencies;
+
+    private Map<String, org.apache.maven.model.Dependency> managedDependencies;
+
+    private Map<String, org.apache.maven.model.Dependency> importedDependencies;
+
+    LocationIndex(MavenProject mavenProject) {
+      this.mavenProject = mavenProject;
+    }
+
+    synchronized Plugin getPlugin(String pluginKey) {
+      if(plugins == null) {
+        plugins = new HashMap<>();
+        if(mavenProject.getBuild() != null) {
+          for(Plugin plugin : mavenProject.getBuild().getPlugins()) {
+            plugins.put(plugin.getKey(), plugin);
+          }
+        }
+      }
+      return plugins.get(pluginKey);
+    }
+
+    synchronized Map<String, org.apache.maven.model.Dependency> getDependencies() {
+      if(dependencies == null) {
+        dependencies = index(mavenProject.getDependencies());
+      }
+      return dependencies;
+    }
+
+    synchronized Map<String, org.apache.maven.model.Dependency> getManagedDependencies() {
+      if(managedDependencies == null) {
+        DependencyManagement depMgmt = mavenProject.getModel().getDependencyManagement();
+        managedDependencies = index(
+            depMgmt != null ? depMgmt.getDependencies() : Collections.<org.apache.maven.model.Dependency> emptyList());
+      }
+      return managedDependencies;
+    }
+
+    /**
+     * pom imports of the original model dependency management, by imported pom groupId:artifactId:version
+     */
+    synchronized Map<String, org.apache.maven.model.Dependency> getImportedDependencies() {
+      if(importedDependencies == null) {
+        importedDependencies = new HashMap<>();
+        DependencyManagement origMgmt = mavenProject.getOriginalModel().getDependencyManagement();
+        if(origMgmt != null) {
+          for(org.apache.maven.model.Dependency dependency : origMgmt.getDependencies()) {
+            if("import".equals(dependency.getScope()) && "pom".equals(dependency.getType())) {
+              importedDependencies.putIfAbsent(
+                  dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion(),
+                  dependency);
+            }
+          }
+        }
+      }
+      return importedDependencies;
+    }
+
+    private static Map<String, org.apache.maven.model.Dependency> index(
+        List<org.apache.maven.model.Dependency> dependencies) {
+      Map<String, org.apache.maven.model.Dependency> index = new HashMap<>();
+      for(org.apache.maven.model.Dependency dependency : dependencies) {
+        // first match wins
+        index.putIfAbsent(getDependencyKey(dependency), dependency);
+      }
+      return index;
+    }
+  }
 }
@@ -333,4 +333,14 @@ public class MavenConfigurationImpl implements IMavenConfiguration, IPreferenceC
     return Boolean.parseBoolean(
         preferenceStore.get(MavenPreferenceConstants.P_BUILDER_USE_NULL_SCHEDULING_RULE, null, preferencesLookup));
   }
+
+  @Override
+  public boolean isConfigureProjectsInParallel() {
+    return Boolean.parseBoolean(
+        preferenceStore.get(MavenPreferenceConstants.P_CONFIGURE_PROJECTS_IN_PARALLEL, null, preferencesLookup));
+  }
+
+  public void setConfigureProjectsInParallel(boolean value) {
+    preferencesLookup[0].putBoolean(MavenPreferenceConstants.P_CONFIGURE_PROJECTS_IN_PARALLEL, value);
+  }
 }
@@ -173,4 +173,11 @@ public interface MavenPreferenceConstants {
    */
   static final String P_BUILDER_USE_NULL_SCHEDULING_RULE = "builderUsesNullSchedulingRule"; //$NON-NLS-1$
 
+  /**
+   * boolean.
+   * 
+   * @experimental
+   */
+  static final String P_CONFIGURE_PROJECTS_IN_PARALLEL = "configureProjectsInParallel"; //$NON-NLS-1$
+
 }
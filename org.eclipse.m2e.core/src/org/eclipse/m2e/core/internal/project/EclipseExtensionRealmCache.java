@@ -12,10 +12,14 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Singleton;
 
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
 import org.apache.maven.plugin.DefaultExtensionRealmCache;
 import org.apache.maven.project.MavenProject;
 
@@ -44,6 +48,24 @@ public class EclipseExtensionRealmCache extends DefaultExtensionRealmCache imple
     plunger.register(project, key);
   };
 
+  /**
+   * Registers the project as user of the cached extension realms among the given realms, so they are not disposed
+   * while the project uses a project realm that imports from them.
+   *
+   * @since 1.10
+   */
+  public void register(MavenProject project, Collection<ClassRealm> realms) {
+    for(Map.Entry<Key, CacheRecord> entry : cache.entrySet()) {
+      ClassRealm realm = entry.getValue().getRealm();
+      for(ClassRealm importRealm : realms) {
+        if(importRealm == realm) {
+          plunger.register(project, entry.getKey());
+          break;
+        }
+      }
+    }
+  }
+
   @Override
   public Set<File> removeProject(File pom, ArtifactKey mavenProject, boolean forceDependencyUpdate) {
     return plunger.removeProject(pom, forceDependencyUpdate);
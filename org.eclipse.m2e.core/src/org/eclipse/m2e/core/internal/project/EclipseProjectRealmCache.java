@@ -12,10 +12,20 @@
 package org.eclipse.m2e.core.internal.project;
 
 import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+import org.apache.maven.plugin.ExtensionRealmCache;
 import org.apache.maven.project.DefaultProjectRealmCache;
 import org.apache.maven.project.MavenProject;
 
@@ -23,6 +33,17 @@ import org.eclipse.m2e.core.embedder.ArtifactKey;
 
 
 /**
+ * Project realm cache that shares project class realms among all projects that use the same set of resolved build
+ * extension artifacts.
+ * <p>
+ * Maven core keys project realms by extension realm identity, which means two projects end up with separate project
+ * realms whenever their extension realms were created independently, even if both were built from exactly the same
+ * extension jars. This implementation keys project realms by the list of extension realm classpath entries, including
+ * their size and modification time, instead. Cached project realms are shared as long as at least one registered
+ * project references them and are disposed when the last referencing project is removed from the cache by
+ * {@link org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager}. Every project that uses a shared
+ * project realm also holds the extension realms that realm imports from, so they are not disposed while in use.
+ *
  * @since 1.6
  */
 @Singleton
@@ -38,9 +59,39 @@ public class EclipseProjectRealmCache extends DefaultProjectRealmCache implement
     }
   };
 
+  private final ExtensionRealmCache extensionRealmCache;
+
+  @Inject
+  public EclipseProjectRealmCache(ExtensionRealmCache extensionRealmCache) {
+    this.extensionRealmCache = extensionRealmCache;
+  }
+
+  @Override
+  public Key createKey(List<? extends ClassRealm> extensionRealms) {
+    return new ExtensionArtifactsKey(extensionRealms);
+  }
+
+  @Override
+  public CacheRecord get(Key key) {
+    CacheRecord cacheRecord = super.get(key);
+    if(cacheRecord != null && !isImportsAlive(cacheRecord.getRealm())) {
+      // one of the extension realms the cached project realm imports from has been disposed meanwhile,
+      // the project realm cannot be shared anymore and will be recreated by the caller
+      if(cache.remove(key, cacheRecord)) {
+        plunger.disposeClassRealm(cacheRecord.getRealm());
+      }
+      return null;
+    }
+    return cacheRecord;
+  }
+
   @Override
   public void register(MavenProject project, Key key, CacheRecord record) {
     plunger.register(project, key);
+    if(record != null && record.getRealm() != null && extensionRealmCache instanceof EclipseExtensionRealmCache) {
+      // the shared project realm may import extension realms created for another project
+      ((EclipseExtensionRealmCache) extensionRealmCache).register(project, record.getRealm().getImportRealms());
+    }
   }
 
   @Override
@@ -54,4 +105,143 @@ public class EclipseProjectRealmCache extends DefaultProjectRealmCache implement
     plunger.flush();
   }
 
+  /**
+   * Returns a snapshot of the current state of this cache.
+   *
+   * @since 1.10
+   */
+  public Diagnostics getDiagnostics() {
+    int references = plunger.getProjectReferenceCount();
+    Map<ClassRealm, Boolean> realms = new IdentityHashMap<>();
+    for(CacheRecord cacheRecord : cache.values()) {
+      ClassRealm realm = cacheRecord.getRealm();
+      realms.put(realm, Boolean.TRUE);
+      for(ClassRealm importRealm : realm.getImportRealms()) {
+        realms.put(importRealm, Boolean.TRUE);
+      }
+    }
+    long footprint = 0;
+    for(ClassRealm realm : realms.keySet()) {
+      footprint += getClasspathSize(realm);
+    }
+    return new Diagnostics(cache.size(), references, footprint);
+  }
+
+  private static boolean isImportsAlive(ClassRealm realm) {
+    for(ClassRealm importRealm : realm.getImportRealms()) {
+      if(realm.getWorld().getClassRealm(importRealm.getId()) != importRealm) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long getClasspathSize(ClassRealm realm) {
+    long size = 0;
+    for(URL url : realm.getURLs()) {
+      if("file".equals(url.getProtocol())) { //$NON-NLS-1$
+        size += new File(url.getPath()).length();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Project realm cache key based on classpath of the extension realms rather than on extension realm instances.
+   */
+  private static class ExtensionArtifactsKey implements Key {
+
+    private final List<List<Object>> classpath;
+
+    private final int hashCode;
+
+    public ExtensionArtifactsKey(List<? extends ClassRealm> extensionRealms) {
+      List<List<Object>> classpath = new ArrayList<>(extensionRealms.size());
+      for(ClassRealm extensionRealm : extensionRealms) {
+        List<Object> entries = new ArrayList<>();
+        for(URL url : extensionRealm.getURLs()) {
+          entries.add(url.toExternalForm());
+          if("file".equals(url.getProtocol())) { //$NON-NLS-1$
+            // same as maven, a jar rebuilt at the same location is a different extension
+            File file = new File(url.getPath());
+            entries.add(Long.valueOf(file.length()));
+            entries.add(Long.valueOf(file.lastModified()));
+          }
+        }
+        classpath.add(Collections.unmodifiableList(entries));
+      }
+      this.classpath = Collections.unmodifiableList(classpath);
+      this.hashCode = this.classpath.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if(o == this) {
+        return true;
+      }
+      if(!(o instanceof ExtensionArtifactsKey)) {
+        return false;
+      }
+      ExtensionArtifactsKey other = (ExtensionArtifactsKey) o;
+      return hashCode == other.hashCode && classpath.equals(other.classpath);
+    }
+
+    @Override
+    public String toString() {
+      return classpath.toString();
+    }
+  }
+
+  /**
+   * Project realm cache statistics.
+   *
+   * @since 1.10
+   */
+  public static class Diagnostics {
+
+    private final int realmCount;
+
+    private final int projectReferenceCount;
+
+    private final long estimatedFootprint;
+
+    Diagnostics(int realmCount, int projectReferenceCount, long estimatedFootprint) {
+      this.realmCount = realmCount;
+      this.projectReferenceCount = projectReferenceCount;
+      this.estimatedFootprint = estimatedFootprint;
+    }
+
+    /**
+     * Number of distinct project realms currently cached.
+     */
+    public int getRealmCount() {
+      return realmCount;
+    }
+
+    /**
+     * Number of workspace projects that currently reference one of the cached project realms.
+     */
+    public int getProjectReferenceCount() {
+      return projectReferenceCount;
+    }
+
+    /**
+     * Estimated footprint of cached project realms, in bytes, computed as total size of the classpath entries of the
+     * project realms and the extension realms they import from. This is only a rough approximation of the heap and
+     * metaspace actually used by loaded classes.
+     */
+    public long getEstimatedFootprint() {
+      return estimatedFootprint;
+    }
+
+    @Override
+    public String toString() {
+      return "realms=" + realmCount + ", references=" + projectReferenceCount + ", footprint=" + estimatedFootprint; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+  }
 }
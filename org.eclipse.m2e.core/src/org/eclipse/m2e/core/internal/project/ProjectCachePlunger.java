@@ -33,6 +33,9 @@ import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 
 
 /**
+ * Tracks which projects use which cache entries and flushes entries no longer used by any project. Caches are shared
+ * by concurrently built projects, all access to project/key associations is synchronized on the plunger instance.
+ *
  * @since 1.6
  */
 abstract class ProjectCachePlunger<Key> {
@@ -43,7 +46,7 @@ abstract class ProjectCachePlunger<Key> {
 
   final Multimap<Key, File> keyProjects = HashMultimap.create();
 
-  public void register(MavenProject project, Key cacheKey) {
+  public synchronized void register(MavenProject project, Key cacheKey) {
     // project.file is null for parent pom.xml resolved from repositories
     File file = project.getFile();
     if(file != null) {
@@ -52,7 +55,7 @@ abstract class ProjectCachePlunger<Key> {
     }
   }
 
-  public Set<File> removeProject(File pom, boolean forceDependencyUpdate) {
+  public synchronized Set<File> removeProject(File pom, boolean forceDependencyUpdate) {
     MavenExecutionContext context = MavenExecutionContext.getThreadContext();
     RepositorySystemSession session = context != null ? context.getRepositorySession() : null;
     if(forceDependencyUpdate && session == null) {
@@ -89,8 +92,17 @@ abstract class ProjectCachePlunger<Key> {
 
   protected abstract void flush(Key cacheKey);
 
-  public void flush() {
+  public synchronized void flush() {
     projectKeys.clear();
     keyProjects.clear();
   }
+
+  /**
+   * Returns number of project references to cache entries.
+   *
+   * @since 1.10
+   */
+  public synchronized int getProjectReferenceCount() {
+    return keyProjects.size();
+  }
 }
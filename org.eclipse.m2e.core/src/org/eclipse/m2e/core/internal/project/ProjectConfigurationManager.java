@@ -26,6 +26,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +46,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -54,6 +60,8 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.SubProgressMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.osgi.util.NLS;
 
 import org.codehaus.plexus.util.StringUtils;
@@ -63,6 +71,7 @@ import org.apache.maven.archetype.ArchetypeGenerationResult;
 import org.apache.maven.archetype.catalog.Archetype;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.execution.MavenExecutionRequest;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Parent;
 import org.apache.maven.project.MavenProject;
@@ -78,6 +87,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.embedder.AbstractRunnable;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
+import org.eclipse.m2e.core.internal.embedder.WorkerThreadFactory;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
 import org.eclipse.m2e.core.internal.preferences.ProblemSeverity;
@@ -94,6 +104,7 @@ import org.eclipse.m2e.core.project.MavenProjectInfo;
 import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.core.project.ProjectImportConfiguration;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.core.project.configurator.AbstractLifecycleMapping;
 import org.eclipse.m2e.core.project.configurator.AbstractProjectConfigurator;
 import org.eclipse.m2e.core.project.configurator.ILifecycleMapping;
 import org.eclipse.m2e.core.project.configurator.ProjectConfigurationRequest;
@@ -371,11 +382,60 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
     long l1 = System.currentTimeMillis();
     log.info("Update started"); //$NON-NLS-1$
 
-    Map<IFile, IMavenProjectFacade> projects = new LinkedHashMap<IFile, IMavenProjectFacade>();
+    final Map<IFile, IMavenProjectFacade> projects = new LinkedHashMap<IFile, IMavenProjectFacade>();
 
     //project names to the errors encountered when updating them
-    Map<String, IStatus> updateStatus = new HashMap<String, IStatus>();
+    final Map<String, IStatus> updateStatus = new HashMap<String, IStatus>();
+
+    if(updateConfiguration && mavenConfiguration.isConfigureProjectsInParallel()
+        && Job.getJobManager().currentRule() == null) {
+      // caller does not hold workspace rule, registry refresh and clean build acquire it, projects are configured
+      // under project scoped rules
+      runWithWorkspaceRule(new IWorkspaceRunnable() {
+        public void run(IProgressMonitor m) throws CoreException {
+          refreshProjects(pomFiles, refreshFromLocal, projects, updateStatus, monitor);
+        }
+      }, monitor);
+      configureProjectsInParallel(projects, updateStatus, monitor);
+      if(cleanProjects) {
+        runWithWorkspaceRule(new IWorkspaceRunnable() {
+          public void run(IProgressMonitor m) throws CoreException {
+            cleanBuildProjects(projects, updateStatus, monitor);
+          }
+        }, monitor);
+      }
+    } else if(mavenConfiguration.isConfigureProjectsInParallel() && Job.getJobManager().currentRule() == null) {
+      // with parallel configuration enabled, UpdateMavenProjectJob may not hold the workspace rule
+      runWithWorkspaceRule(new IWorkspaceRunnable() {
+        public void run(IProgressMonitor m) {
+          updateProjects(pomFiles, updateConfiguration, cleanProjects, refreshFromLocal, projects, updateStatus,
+              monitor);
+        }
+      }, monitor);
+    } else {
+      updateProjects(pomFiles, updateConfiguration, cleanProjects, refreshFromLocal, projects, updateStatus, monitor);
+    }
+
+    long l2 = System.currentTimeMillis();
+    log.info(NLS.bind("Update completed: {0} sec", ((l2 - l1) / 1000))); //$NON-NLS-1$
+
+    return updateStatus;
+  }
+
+  private void updateProjects(Collection<IFile> pomFiles, boolean updateConfiguration, boolean cleanProjects,
+      boolean refreshFromLocal, Map<IFile, IMavenProjectFacade> projects, Map<String, IStatus> updateStatus,
+      IProgressMonitor monitor) {
+    refreshProjects(pomFiles, refreshFromLocal, projects, updateStatus, monitor);
+    if(updateConfiguration) {
+      configureProjects(projects, updateStatus, monitor);
+    }
+    if(cleanProjects) {
+      cleanBuildProjects(projects, updateStatus, monitor);
+    }
+  }
 
+  private void refreshProjects(Collection<IFile> pomFiles, boolean refreshFromLocal,
+      Map<IFile, IMavenProjectFacade> projects, Map<String, IStatus> updateStatus, IProgressMonitor monitor) {
     List<IFile> pomsToRefresh = new ArrayList<IFile>();
 
     // refresh from local filesystem
@@ -419,64 +479,222 @@ public class ProjectConfigurationManager implements IProjectConfigurationManager
         updateStatus.put(project.getName(), ex.getStatus());
       }
     }
+  }
 
-    // update project configuration
-    if(updateConfiguration) {
-      Iterator<Entry<IFile, IMavenProjectFacade>> iterator = projects.entrySet().iterator();
-      while(iterator.hasNext()) {
-        if(monitor.isCanceled()) {
-          throw new OperationCanceledException();
-        }
+  private void configureProjects(Map<IFile, IMavenProjectFacade> projects, Map<String, IStatus> updateStatus,
+      IProgressMonitor monitor) {
+    Iterator<Entry<IFile, IMavenProjectFacade>> iterator = projects.entrySet().iterator();
+    while(iterator.hasNext()) {
+      if(monitor.isCanceled()) {
+        throw new OperationCanceledException();
+      }
+
+      IMavenProjectFacade facade = iterator.next().getValue();
+
+      monitor.subTask(facade.getProject().getName());
+
+      SubProgressMonitor submonitor = new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
+      try {
+        ProjectConfigurationRequest cfgRequest = new ProjectConfigurationRequest(facade,
+            facade.getMavenProject(submonitor));
+        updateProjectConfiguration(cfgRequest, submonitor);
+      } catch(CoreException ex) {
+        iterator.remove();
+        updateStatus.put(facade.getProject().getName(), ex.getStatus());
+      }
+    }
+  }
+
+  /**
+   * Configures projects with thread safe project configurators concurrently, each under a project scoped rule. Other
+   * projects are configured first, one by one under the workspace rule. Must be called without holding any scheduling
+   * rule.
+   */
+  private void configureProjectsInParallel(final Map<IFile, IMavenProjectFacade> projects,
+      final Map<String, IStatus> updateStatus, final IProgressMonitor monitor) {
+    final Map<IFile, IMavenProjectFacade> serialProjects = new LinkedHashMap<IFile, IMavenProjectFacade>();
+    List<IFile> parallelPoms = new ArrayList<IFile>();
+    for(Map.Entry<IFile, IMavenProjectFacade> entry : projects.entrySet()) {
+      if(isThreadSafe(entry.getValue(), monitor)) {
+        parallelPoms.add(entry.getKey());
+      } else {
+        serialProjects.put(entry.getKey(), entry.getValue());
+      }
+    }
+    log.debug("Configuring {} projects in parallel, {} projects serially", parallelPoms.size(), serialProjects.size()); //$NON-NLS-1$
 
-        IMavenProjectFacade facade = iterator.next().getValue();
+    if(!serialProjects.isEmpty()) {
+      Set<IFile> failedPoms = new HashSet<IFile>(serialProjects.keySet());
+      runWithWorkspaceRule(new IWorkspaceRunnable() {
+        public void run(IProgressMonitor m) {
+          configureProjects(serialProjects, updateStatus, monitor);
+        }
+      }, monitor);
+      failedPoms.removeAll(serialProjects.keySet());
+      projects.keySet().removeAll(failedPoms);
+    }
+    if(parallelPoms.isEmpty()) {
+      return;
+    }
 
-        monitor.subTask(facade.getProject().getName());
+    // progress monitors are not thread safe, only propagate cancellation to worker threads
+    final IProgressMonitor workerMonitor = new NullProgressMonitor() {
+      @Override
+      public boolean isCanceled() {
+        return monitor.isCanceled();
+      }
+    };
+
+    final IWorkspace workspace = ResourcesPlugin.getWorkspace();
+    int threads = Math.min(parallelPoms.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+    // workers do not join the execution context of the update, they use own sessions with the same request settings
+    MavenExecutionContext updateContext = MavenExecutionContext.getThreadContext();
+    MavenExecutionRequest updateRequest = updateContext != null ? updateContext.getSession().getRequest() : null;
+    final boolean offline = updateRequest != null ? updateRequest.isOffline() : mavenConfiguration.isOffline();
+    final boolean updateSnapshots = updateRequest != null && updateRequest.isUpdateSnapshots();
+    ExecutorService executor = Executors.newFixedThreadPool(threads,
+        new WorkerThreadFactory("M2E project configuration")); //$NON-NLS-1$
+    try {
+      List<Future<IStatus>> futures = new ArrayList<Future<IStatus>>();
+      for(IFile pom : parallelPoms) {
+        final IMavenProjectFacade facade = projects.get(pom);
+        futures.add(executor.submit(new Callable<IStatus>() {
+          public IStatus call() {
+            if(workerMonitor.isCanceled()) {
+              return Status.CANCEL_STATUS;
+            }
+            try {
+              configureConcurrently(workspace, facade, offline, updateSnapshots, workerMonitor);
+            } catch(CoreException ex) {
+              return ex.getStatus();
+            } catch(OperationCanceledException ex) {
+              return Status.CANCEL_STATUS;
+            }
+            return Status.OK_STATUS;
+          }
+        }));
+      }
 
-        SubProgressMonitor submonitor = new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
+      for(int i = 0; i < futures.size(); i++ ) {
+        IFile pom = parallelPoms.get(i);
+        String projectName = pom.getProject().getName();
+        monitor.subTask(projectName);
+        IStatus status;
         try {
-          ProjectConfigurationRequest cfgRequest = new ProjectConfigurationRequest(facade,
-              facade.getMavenProject(submonitor));
-          updateProjectConfiguration(cfgRequest, submonitor);
-        } catch(CoreException ex) {
-          iterator.remove();
-          updateStatus.put(facade.getProject().getName(), ex.getStatus());
+          status = futures.get(i).get();
+        } catch(InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          throw new OperationCanceledException();
+        } catch(ExecutionException ex) {
+          Throwable cause = ex.getCause();
+          status = new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, cause.getMessage(), cause);
+        }
+        monitor.worked(1);
+        if(status.getSeverity() == IStatus.CANCEL) {
+          continue;
+        }
+        if(!status.isOK()) {
+          projects.remove(pom);
+          updateStatus.put(projectName, status);
         }
       }
+    } finally {
+      executor.shutdownNow();
     }
 
-    // rebuild
-    if(cleanProjects) {
-      Iterator<Entry<IFile, IMavenProjectFacade>> iterator = projects.entrySet().iterator();
-      while(iterator.hasNext()) {
-        if(monitor.isCanceled()) {
-          throw new OperationCanceledException();
+    if(monitor.isCanceled()) {
+      throw new OperationCanceledException();
+    }
+  }
+
+  /**
+   * Configures the project under a project scoped rule. The worker uses its own execution context, Maven session and
+   * project map, so configurators can execute Maven for the configured project without affecting other workers.
+   */
+  private void configureConcurrently(final IWorkspace workspace, final IMavenProjectFacade facade, boolean offline,
+      boolean updateSnapshots, final IProgressMonitor monitor) throws CoreException {
+    IProject project = facade.getProject();
+    final ISchedulingRule rule = MultiRule.combine(workspace.getRuleFactory().modifyRule(project),
+        workspace.getRuleFactory().markerRule(project));
+    final IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+      public void run(IProgressMonitor m) throws CoreException {
+        ProjectConfigurationRequest cfgRequest = new ProjectConfigurationRequest(facade,
+            facade.getMavenProject(monitor));
+        updateProjectConfiguration(cfgRequest, monitor);
+      }
+    };
+    maven.execute(offline, updateSnapshots, new ICallable<Void>() {
+      public Void call(IMavenExecutionContext context, IProgressMonitor monitor) throws CoreException {
+        workspace.run(runnable, rule, IWorkspace.AVOID_UPDATE, null);
+        return null;
+      }
+    }, monitor);
+  }
+
+  /**
+   * Returns {@code true} if project configuration can be updated concurrently with configuration of other projects,
+   * i.e. all project configurators are thread safe.
+   */
+  private boolean isThreadSafe(IMavenProjectFacade facade, IProgressMonitor monitor) {
+    try {
+      ILifecycleMapping lifecycleMapping = getLifecycleMapping(facade);
+      if(!(lifecycleMapping instanceof AbstractLifecycleMapping)) {
+        return false;
+      }
+      for(AbstractProjectConfigurator configurator : lifecycleMapping.getProjectConfigurators(facade, monitor)) {
+        if(!configurator.isThreadSafe()) {
+          return false;
         }
+      }
+      return true;
+    } catch(CoreException ex) {
+      // configuration will report the problem
+      return false;
+    }
+  }
 
-        IMavenProjectFacade facade = iterator.next().getValue();
+  private void cleanBuildProjects(Map<IFile, IMavenProjectFacade> projects, Map<String, IStatus> updateStatus,
+      IProgressMonitor monitor) {
+    Iterator<Entry<IFile, IMavenProjectFacade>> iterator = projects.entrySet().iterator();
+    while(iterator.hasNext()) {
+      if(monitor.isCanceled()) {
+        throw new OperationCanceledException();
+      }
 
-        IProject project = facade.getProject();
+      IMavenProjectFacade facade = iterator.next().getValue();
 
-        monitor.subTask(project.getName());
+      IProject project = facade.getProject();
 
-        SubProgressMonitor submonitor = new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
-        try {
-          // only rebuild projects that were successfully updated
-          IStatus status = updateStatus.get(project.getName());
-          if(status == null || status.isOK()) {
-            project.build(IncrementalProjectBuilder.CLEAN_BUILD, submonitor);
-            // TODO provide an option to build projects if the workspace is not autobuilding
-          }
-        } catch(CoreException ex) {
-          iterator.remove();
-          updateStatus.put(project.getName(), ex.getStatus());
+      monitor.subTask(project.getName());
+
+      SubProgressMonitor submonitor = new SubProgressMonitor(monitor, 1, SubProgressMonitor.SUPPRESS_SUBTASK_LABEL);
+      try {
+        // only rebuild projects that were successfully updated
+        IStatus status = updateStatus.get(project.getName());
+        if(status == null || status.isOK()) {
+          project.build(IncrementalProjectBuilder.CLEAN_BUILD, submonitor);
+          // TODO provide an option to build projects if the workspace is not autobuilding
         }
+      } catch(CoreException ex) {
+        iterator.remove();
+        updateStatus.put(project.getName(), ex.getStatus());
       }
     }
+  }
 
-    long l2 = System.currentTimeMillis();
-    log.info(NLS.bind("Update completed: {0} sec", ((l2 - l1) / 1000))); //$NON-NLS-1$
-
-    return updateStatus;
+  /**
+   * Runs the runnable under the workspace rule, the runnable reports progress to the given monitor. Failures are
+   * reported by the runnable itself through per-project status.
+   */
+  private void runWithWorkspaceRule(IWorkspaceRunnable runnable, IProgressMonitor monitor) {
+    try {
+      ResourcesPlugin.getWorkspace().run(runnable, getRule(), IWorkspace.AVOID_UPDATE, null);
+    } catch(CoreException ex) {
+      log.error(ex.getMessage(), ex);
+    }
+    if(monitor.isCanceled()) {
+      throw new OperationCanceledException();
+    }
   }
 
   private void updateProjectConfiguration(final ProjectConfigurationRequest request, IProgressMonitor monitor)
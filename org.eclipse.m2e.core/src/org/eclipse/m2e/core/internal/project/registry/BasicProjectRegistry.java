@@ -14,6 +14,7 @@ package org.eclipse.m2e.core.internal.project.registry;
 import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -176,4 +177,47 @@ abstract class BasicProjectRegistry implements Serializable {
   protected Set<RequiredCapability> getProjectRequirements(IFile pom) {
     return projectRequirements.get(pom);
   }
+
+  /**
+   * Returns pom files of other workspace projects that provide capabilities required by the given project, i.e.
+   * workspace projects the given project depends on.
+   */
+  public Set<IFile> getRequiredProjects(IFile pom) {
+    Set<IFile> result = computeRequiredProjects().get(pom);
+    return result != null ? result : Collections.<IFile> emptySet();
+  }
+
+  /**
+   * Returns pom files of workspace projects each project depends on. Capabilities are indexed by their versionless key
+   * first, so each requirement is only matched against capabilities with the same key.
+   */
+  protected Map<IFile, Set<IFile>> computeRequiredProjects() {
+    Map<VersionlessKey, Map<Capability, Set<IFile>>> providers = new HashMap<>();
+    for(Map.Entry<IFile, Set<Capability>> entry : projectCapabilities.entrySet()) {
+      for(Capability capability : entry.getValue()) {
+        providers.computeIfAbsent(capability.getVersionlessKey(), k -> new HashMap<>())
+            .computeIfAbsent(capability, k -> new LinkedHashSet<>()).add(entry.getKey());
+      }
+    }
+    Map<IFile, Set<IFile>> result = new HashMap<>();
+    for(Map.Entry<IFile, Set<RequiredCapability>> entry : projectRequirements.entrySet()) {
+      Set<IFile> required = new LinkedHashSet<>();
+      for(RequiredCapability requirement : entry.getValue()) {
+        Map<Capability, Set<IFile>> candidates = providers.get(requirement.getVersionlessKey());
+        if(candidates == null) {
+          continue;
+        }
+        for(Map.Entry<Capability, Set<IFile>> candidate : candidates.entrySet()) {
+          if(requirement.isPotentialMatch(candidate.getKey(), true)) {
+            required.addAll(candidate.getValue());
+          }
+        }
+      }
+      required.remove(entry.getKey());
+      if(!required.isEmpty()) {
+        result.put(entry.getKey(), Collections.unmodifiableSet(required));
+      }
+    }
+    return result;
+  }
 }
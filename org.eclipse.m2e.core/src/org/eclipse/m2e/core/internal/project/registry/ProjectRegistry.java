@@ -14,6 +14,7 @@ package org.eclipse.m2e.core.internal.project.registry;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,6 +54,22 @@ public class ProjectRegistry extends BasicProjectRegistry implements Serializabl
     return super.getWorkspaceArtifacts(groupId, artifactId);
   }
 
+  /**
+   * Workspace projects each project depends on, computed on first use after each registry change. Build scheduling
+   * rules of all projects are computed from the same registry state, this avoids matching all workspace capabilities
+   * for each project build.
+   */
+  private transient Map<IFile, Set<IFile>> requiredProjects;
+
+  @Override
+  public synchronized Set<IFile> getRequiredProjects(IFile pom) {
+    if(requiredProjects == null) {
+      requiredProjects = computeRequiredProjects();
+    }
+    Set<IFile> result = requiredProjects.get(pom);
+    return result != null ? result : Collections.<IFile> emptySet();
+  }
+
   public synchronized List<MavenProjectChangedEvent> apply(MutableProjectRegistry newState)
       throws StaleMutableProjectRegistryException {
     if(newState.isStale()) {
@@ -100,6 +117,7 @@ public class ProjectRegistry extends BasicProjectRegistry implements Serializabl
     }
 
     replaceWith(newState);
+    requiredProjects = null;
 
     version++ ;
 
@@ -86,12 +86,14 @@ import org.eclipse.m2e.core.internal.URLConnectionCaches;
 import org.eclipse.m2e.core.internal.builder.MavenBuilder;
 import org.eclipse.m2e.core.internal.embedder.MavenExecutionContext;
 import org.eclipse.m2e.core.internal.embedder.MavenImpl;
+import org.eclipse.m2e.core.internal.embedder.TransferMetrics;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingResult;
 import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
 import org.eclipse.m2e.core.internal.markers.IMavenMarkerManager;
 import org.eclipse.m2e.core.internal.markers.MarkerUtils;
 import org.eclipse.m2e.core.internal.project.DependencyResolutionContext;
+import org.eclipse.m2e.core.internal.project.EclipseProjectRealmCache;
 import org.eclipse.m2e.core.internal.project.IManagedCache;
 import org.eclipse.m2e.core.internal.project.ResolverConfigurationIO;
 import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
@@ -214,6 +216,22 @@ public class ProjectRegistryManager {
     return project.getFile(IMavenConstants.POM_FILE_NAME);
   }
 
+  /**
+   * Returns workspace projects the given project depends on according to the current project registry state, or an
+   * empty set if the project is not known to the registry.
+   */
+  public Set<IProject> getWorkspaceDependencies(IProject project) {
+    IFile pom = getPom(project);
+    if(pom == null) {
+      return Collections.emptySet();
+    }
+    Set<IProject> result = new LinkedHashSet<IProject>();
+    for(IFile dependency : projectRegistry.getRequiredProjects(pom)) {
+      result.add(dependency.getProject());
+    }
+    return result;
+  }
+
   /**
    * Removes specified poms from the cache. Adds dependent poms to pomSet but does not directly refresh dependent poms.
    * Recursively removes all nested modules if appropriate.
@@ -288,6 +306,7 @@ public class ProjectRegistryManager {
     SubMonitor progress = SubMonitor.convert(monitor, Messages.ProjectRegistryManager_task_refreshing, 100);
     ISchedulingRule rule = ResourcesPlugin.getWorkspace().getRoot();
     Job.getJobManager().beginRule(rule, progress);
+    TransferMetrics transferMetrics = maven.getTransferMetrics().startRecording();
     try {
       syncRefreshThread = Thread.currentThread();
 
@@ -302,6 +321,11 @@ public class ProjectRegistryManager {
     } finally {
       syncRefreshThread = null;
       Job.getJobManager().endRule(rule);
+      maven.getTransferMetrics().stopRecording(transferMetrics);
+      String transferSummary = transferMetrics.getSummary();
+      if(transferSummary != null) {
+        log.info("Artifact transfers during refresh of {} projects:\n{}", pomFiles.size(), transferSummary); //$NON-NLS-1$
+      }
     }
   }
 
@@ -1114,6 +1138,20 @@ public class ProjectRegistryManager {
     return affected;
   }
 
+  /**
+   * Returns statistics about project class realms shared among workspace projects that use build extensions.
+   *
+   * @since 1.10
+   */
+  public EclipseProjectRealmCache.Diagnostics getProjectRealmCacheDiagnostics() throws CoreException {
+    try {
+      ProjectRealmCache cache = maven.getPlexusContainer().lookup(ProjectRealmCache.class);
+      return ((EclipseProjectRealmCache) cache).getDiagnostics();
+    } catch(ComponentLookupException ex) {
+      throw new CoreException(new Status(IStatus.ERROR, IMavenConstants.PLUGIN_ID, -1, ex.getMessage(), ex));
+    }
+  }
+
   private Set<File> flushMavenCache(Class<?> clazz, File pom, ArtifactKey key, boolean force) {
     try {
       IManagedCache cache = (IManagedCache) maven.getPlexusContainer().lookup(clazz);
@@ -11,6 +11,8 @@
 
 package org.eclipse.m2e.core.project.configurator;
 
+import java.io.File;
+import java.util.Collection;
 import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
@@ -83,6 +85,47 @@ public abstract class AbstractBuildParticipant extends InternalBuildParticipant
     return false;
   }
 
+  /**
+   * Returns {@code true} if this build participant can be executed concurrently with other thread safe build
+   * participants of the same project. Thread safe build participants must declare the locations they read and write by
+   * {@link #getInputLocations()} and {@link #getOutputLocations()}. Build participants with overlapping locations are
+   * never executed concurrently. Concurrently executed build participants get their own {@link MavenSession}, the
+   * current project of the session is a copy of the project's MavenProject.
+   * <p>
+   * Thread safe build participants run on worker threads while the build thread holds the build scheduling rule. They
+   * must not call workspace APIs that acquire scheduling rules or modify resources, such as
+   * {@code IResource.refreshLocal}, {@code IFile.create} or {@code IWorkspace.run}. Calls that begin a scheduling rule
+   * fail with {@link IllegalArgumentException}. Files produced by thread safe build participants must be reported
+   * through {@link BuildContext}, they are refreshed after the build participants complete.
+   * <p>
+   * This method is called after the build participant has been associated with the project being built.
+   *
+   * @since 1.10
+   */
+  public boolean isThreadSafe() {
+    return false;
+  }
+
+  /**
+   * Returns files and directories read by this build participant, or {@code null} if the locations are not known.
+   *
+   * @see #isThreadSafe()
+   * @since 1.10
+   */
+  public Collection<File> getInputLocations() {
+    return null;
+  }
+
+  /**
+   * Returns files and directories written by this build participant, or {@code null} if the locations are not known.
+   *
+   * @see #isThreadSafe()
+   * @since 1.10
+   */
+  public Collection<File> getOutputLocations() {
+    return null;
+  }
+
   /**
    * This method is called during workspace clean build.
    */
@@ -105,6 +105,21 @@ public abstract class AbstractProjectConfigurator implements IExecutableExtensio
    */
   public abstract void configure(ProjectConfigurationRequest request, IProgressMonitor monitor) throws CoreException;
 
+  /**
+   * Returns {@code true} if this configurator can configure a project concurrently with configuration of other
+   * projects. Thread safe configurators must only modify resources of the project being configured and must not
+   * depend on configuration of other projects being updated at the same time.
+   * <p>
+   * Projects are only configured concurrently when parallel project configuration is enabled and all configurators of
+   * the project are thread safe.
+   *
+   * @see IMavenConfiguration#isConfigureProjectsInParallel()
+   * @since 1.10
+   */
+  public boolean isThreadSafe() {
+    return false;
+  }
+
   /**
    * Removes Maven specific configuration from the project passed in ProjectConfigurationRequest
    * 
@@ -11,15 +11,28 @@
 
 package org.eclipse.m2e.core.project.configurator;
 
+import java.io.File;
 import java.util.Set;
+import java.util.UUID;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+
+import org.sonatype.plexus.build.incremental.BuildContext;
 
 import org.eclipse.m2e.core.MavenPlugin;
 import org.eclipse.m2e.core.embedder.IMaven;
+import org.eclipse.m2e.core.internal.builder.plexusbuildapi.AbstractEclipseBuildContext;
+import org.eclipse.m2e.core.internal.builder.plexusbuildapi.BuildInputs;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
 
 
 /**
@@ -29,31 +42,181 @@ import org.eclipse.m2e.core.embedder.IMaven;
  */
 public class MojoExecutionBuildParticipant extends AbstractBuildParticipant2 {
 
+  private static final String CTX_BUILD_INPUTS = MojoExecutionBuildParticipant.class.getName() + "/buildInputs/"; //$NON-NLS-1$
+
+  private static final String CTX_FACADE_ID = MojoExecutionBuildParticipant.class.getName() + "/facadeId"; //$NON-NLS-1$
+
+  private static final String CTX_PROJECT_FINGERPRINT = MojoExecutionBuildParticipant.class.getName()
+      + "/projectFingerprint"; //$NON-NLS-1$
+
   private final MojoExecution execution;
 
   private final boolean runOnIncremental;
 
   private final boolean runOnConfiguration;
 
+  private final boolean skipUnchangedInputs;
+
+  private Boolean buildCacheHit;
+
   public MojoExecutionBuildParticipant(MojoExecution execution, boolean runOnIncremental) {
     this(execution, runOnIncremental, false);
   }
 
   public MojoExecutionBuildParticipant(MojoExecution execution, boolean runOnIncremental, boolean runOnConfiguration) {
+    this(execution, runOnIncremental, runOnConfiguration, false);
+  }
+
+  /**
+   * @param skipUnchangedInputs if {@code true}, incremental builds skip mojo execution when its configuration, the
+   *          project model, the dependency files and none of the locations it accessed through {@link BuildContext}
+   *          during the previous build have changed. Only safe for mojos that access all their other inputs through
+   *          {@link BuildContext}.
+   * @since 1.10
+   */
+  public MojoExecutionBuildParticipant(MojoExecution execution, boolean runOnIncremental, boolean runOnConfiguration,
+      boolean skipUnchangedInputs) {
     this.execution = execution;
     this.runOnIncremental = runOnIncremental;
     this.runOnConfiguration = runOnConfiguration;
+    this.skipUnchangedInputs = skipUnchangedInputs;
   }
 
   public Set<IProject> build(int kind, IProgressMonitor monitor) throws Exception {
+    buildCacheHit = null;
     if(appliesToBuildKind(kind)) {
       IMaven maven = MavenPlugin.getMaven();
 
-      maven.execute(getMavenProjectFacade().getMavenProject(), getMojoExecution(), monitor);
+      BuildContext buildContext = getBuildContext();
+      if(!skipUnchangedInputs || PRECONFIGURE_BUILD == kind || !(buildContext instanceof AbstractEclipseBuildContext)) {
+        execute(maven, monitor);
+        return null;
+      }
+
+      AbstractEclipseBuildContext eclipseBuildContext = (AbstractEclipseBuildContext) buildContext;
+      String key = CTX_BUILD_INPUTS + new MojoExecutionKey(execution).getKeyString();
+      String fingerprint = getInputsFingerprint(eclipseBuildContext);
+      BuildInputs previous = (BuildInputs) eclipseBuildContext.getValue(key);
+      if(previous != null && eclipseBuildContext.isIncremental() && fingerprint.equals(previous.getFingerprint())
+          && !eclipseBuildContext.hasDelta(previous)) {
+        buildCacheHit = Boolean.TRUE;
+        return null;
+      }
+      buildCacheHit = Boolean.FALSE;
+
+      eclipseBuildContext.setValue(key, null);
+      eclipseBuildContext.startInputRecording();
+      BuildInputs inputs;
+      try {
+        execute(maven, monitor);
+      } finally {
+        inputs = eclipseBuildContext.stopInputRecording(fingerprint);
+      }
+      if(!getSession().getResult().hasExceptions()) {
+        eclipseBuildContext.setValue(key, inputs);
+      }
     }
     return null;
   }
 
+  private void execute(IMaven maven, IProgressMonitor monitor) throws CoreException {
+    // concurrently executed thread safe participants get a copy of the project as current project of their session
+    MavenProject project = isThreadSafe() ? getSession().getCurrentProject()
+        : getMavenProjectFacade().getMavenProject();
+    maven.execute(project, getMojoExecution(), monitor);
+  }
+
+  /**
+   * Returns fingerprint of mojo execution inputs other than the locations accessed through {@link BuildContext}, i.e.
+   * the mojo configuration and the {@link #getProjectFingerprint() project fingerprint}. The project fingerprint is
+   * the same for all mojo executions of the project and is computed once per build.
+   */
+  private String getInputsFingerprint(AbstractEclipseBuildContext buildContext) {
+    StringBuilder sb = new StringBuilder();
+    Xpp3Dom configuration = execution.getConfiguration();
+    if(configuration != null) {
+      sb.append(configuration.toString());
+    }
+    String projectFingerprint;
+    synchronized(buildContext) {
+      projectFingerprint = (String) buildContext.getBuildValue(CTX_PROJECT_FINGERPRINT);
+      if(projectFingerprint == null) {
+        projectFingerprint = getProjectFingerprint();
+        buildContext.setBuildValue(CTX_PROJECT_FINGERPRINT, projectFingerprint);
+      }
+    }
+    sb.append('\n').append(projectFingerprint);
+    return sb.toString();
+  }
+
+  /**
+   * Returns fingerprint of the project model and the resolved dependencies. Configuration is not evaluated, so the
+   * fingerprint includes identity of the project facade, which is replaced whenever the project model changes, i.e.
+   * when pom.xml, a parent or a workspace dependency changes or the project is updated. Dependency files are
+   * represented by their timestamp and size, dependency directories, e.g. output folders of workspace projects, by the
+   * number of files and the newest timestamp of their contents.
+   */
+  private String getProjectFingerprint() {
+    StringBuilder sb = new StringBuilder();
+    IMavenProjectFacade facade = getMavenProjectFacade();
+    synchronized(facade) {
+      String facadeId = (String) facade.getSessionProperty(CTX_FACADE_ID);
+      if(facadeId == null) {
+        facadeId = UUID.randomUUID().toString();
+        facade.setSessionProperty(CTX_FACADE_ID, facadeId);
+      }
+      sb.append(facadeId);
+    }
+    for(Artifact artifact : facade.getMavenProject().getArtifacts()) {
+      File file = artifact.getFile();
+      if(file == null) {
+        continue;
+      }
+      if(file.isFile()) {
+        sb.append('\n').append(file.getAbsolutePath());
+        sb.append(':').append(file.lastModified()).append(':').append(file.length());
+      } else if(file.isDirectory()) {
+        // file count, newest timestamp
+        long[] state = new long[2];
+        collectDirectoryState(file, state);
+        sb.append('\n').append(file.getAbsolutePath());
+        sb.append(':').append(state[1]).append(':').append(state[0]);
+      }
+    }
+    return sb.toString();
+  }
+
+  private static void collectDirectoryState(File directory, long[] state) {
+    // directory timestamp changes when members are added or removed
+    state[1] = Math.max(state[1], directory.lastModified());
+    File[] members = directory.listFiles();
+    if(members == null) {
+      return;
+    }
+    for(File member : members) {
+      if(member.isDirectory()) {
+        collectDirectoryState(member, state);
+      } else {
+        state[0]++;
+        state[1] = Math.max(state[1], member.lastModified());
+      }
+    }
+  }
+
+  /**
+   * Mojo executions are thread safe if the mojo is marked thread safe and the locations it reads and writes are
+   * declared, the default implementation of {@link #getInputLocations()} and {@link #getOutputLocations()} returns
+   * {@code null}, so subclasses that know the locations of their mojo must override both methods.
+   *
+   * @since 1.10
+   */
+  @Override
+  public boolean isThreadSafe() {
+    MojoDescriptor mojoDescriptor = execution.getMojoDescriptor();
+    return mojoDescriptor != null && mojoDescriptor.isThreadSafe() && getInputLocations() != null
+        && getOutputLocations() != null;
+  }
+
   public boolean appliesToBuildKind(int kind) {
     if(PRECONFIGURE_BUILD == kind) {
       return runOnConfiguration;
@@ -71,4 +234,14 @@ public class MojoExecutionBuildParticipant extends AbstractBuildParticipant2 {
     return execution;
   }
 
+  /**
+   * Returns {@code Boolean.TRUE} if the last build skipped mojo execution because its inputs did not change,
+   * {@code Boolean.FALSE} if the mojo was executed and {@code null} if the build did not use input tracking.
+   *
+   * @since 1.10
+   */
+  public Boolean getBuildCacheHit() {
+    return buildCacheHit;
+  }
+
 }
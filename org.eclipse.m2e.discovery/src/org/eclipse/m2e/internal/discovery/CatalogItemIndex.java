@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *      m2e contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.m2e.internal.discovery;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadata;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionFilter;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.eclipse.m2e.internal.discovery.MavenDiscoveryService.CatalogItemCacheEntry;
+
+
+/**
+ * Catalog items indexed by plugin groupId:artifactId of their plugin execution mappings, by mapped packaging types,
+ * provided lifecycle mapping strategies and provided project configurators. Lookups return positions of matching items
+ * in the catalog item list the index was built from.
+ *
+ * @since 1.10
+ */
+class CatalogItemIndex {
+
+  private static class ExecutionRule {
+    final int item;
+
+    final PluginExecutionFilter filter;
+
+    /** {@code true} for plugin executions mapped outside of lifecycle mappings, i.e. for any packaging */
+    final boolean anyPackaging;
+
+    /** packaging type of the lifecycle mapping of the plugin execution */
+    final String packaging;
+
+    ExecutionRule(int item, PluginExecutionFilter filter, boolean anyPackaging, String packaging) {
+      this.item = item;
+      this.filter = filter;
+      this.anyPackaging = anyPackaging;
+      this.packaging = packaging;
+    }
+
+    boolean match(MojoExecutionKey execution, String packaging) {
+      if(!anyPackaging && (packaging != null ? !packaging.equals(this.packaging) : this.packaging != null)) {
+        return false;
+      }
+      return filter.match(execution);
+    }
+  }
+
+  private final Map<String, List<ExecutionRule>> executionRules = new HashMap<>();
+
+  /** rules with incomplete filters, always matched using the filter */
+  private final List<ExecutionRule> unindexedExecutionRules = new ArrayList<>();
+
+  private final Map<String, BitSet> packagingTypes = new HashMap<>();
+
+  private final Map<String, BitSet> mappingStrategies = new HashMap<>();
+
+  private final Map<String, BitSet> projectConfigurators = new HashMap<>();
+
+  public CatalogItemIndex(List<CatalogItemCacheEntry> items) {
+    for(int i = 0; i < items.size(); i++ ) {
+      CatalogItemCacheEntry itemEntry = items.get(i);
+      LifecycleMappingMetadataSource src = itemEntry.getMetadataSource();
+      for(PluginExecutionMetadata execution : src.getPluginExecutions()) {
+        addExecutionRule(new ExecutionRule(i, execution.getFilter(), true, null));
+      }
+      for(LifecycleMappingMetadata lifecycleMapping : src.getLifecycleMappings()) {
+        for(PluginExecutionMetadata execution : lifecycleMapping.getPluginExecutions()) {
+          addExecutionRule(new ExecutionRule(i, execution.getFilter(), false, lifecycleMapping.getPackagingType()));
+        }
+        if(lifecycleMapping.getPackagingType() != null) {
+          add(packagingTypes, lifecycleMapping.getPackagingType(), i);
+        }
+      }
+      for(String mappingStrategy : itemEntry.getMappingStrategies()) {
+        add(mappingStrategies, mappingStrategy, i);
+      }
+      for(String projectConfigurator : itemEntry.getProjectConfigurators()) {
+        add(projectConfigurators, projectConfigurator, i);
+      }
+    }
+  }
+
+  private void addExecutionRule(ExecutionRule rule) {
+    PluginExecutionFilter filter = rule.filter;
+    if(filter == null || filter.getGroupId() == null || filter.getArtifactId() == null) {
+      unindexedExecutionRules.add(rule);
+      return;
+    }
+    String key = getKey(filter.getGroupId(), filter.getArtifactId());
+    List<ExecutionRule> rules = executionRules.get(key);
+    if(rules == null) {
+      rules = new ArrayList<>(1);
+      executionRules.put(key, rules);
+    }
+    rules.add(rule);
+  }
+
+  private static void add(Map<String, BitSet> index, String key, int item) {
+    BitSet items = index.get(key);
+    if(items == null) {
+      items = new BitSet();
+      index.put(key, items);
+    }
+    items.set(item);
+  }
+
+  private static String getKey(String groupId, String artifactId) {
+    return groupId + ":" + artifactId; //$NON-NLS-1$
+  }
+
+  /**
+   * Returns items with plugin execution mapping of the given mojo execution for the given project packaging.
+   */
+  public BitSet getItemsForExecution(MojoExecutionKey execution, String packaging) {
+    BitSet result = new BitSet();
+    List<ExecutionRule> rules = executionRules.get(getKey(execution.getGroupId(), execution.getArtifactId()));
+    if(rules != null) {
+      for(ExecutionRule rule : rules) {
+        if(!result.get(rule.item) && rule.match(execution, packaging)) {
+          result.set(rule.item);
+        }
+      }
+    }
+    for(ExecutionRule rule : unindexedExecutionRules) {
+      if(!result.get(rule.item) && rule.match(execution, packaging)) {
+        result.set(rule.item);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns items with lifecycle mapping of the given packaging type.
+   */
+  public BitSet getItemsForPackaging(String packaging) {
+    return copy(packagingTypes.get(packaging));
+  }
+
+  /**
+   * Returns items providing the given lifecycle mapping strategy.
+   */
+  public BitSet getItemsForMappingStrategy(String mappingStrategy) {
+    return copy(mappingStrategies.get(mappingStrategy));
+  }
+
+  /**
+   * Returns items providing the given project configurator.
+   */
+  public BitSet getItemsForProjectConfigurator(String projectConfigurator) {
+    return copy(projectConfigurators.get(projectConfigurator));
+  }
+
+  private static BitSet copy(BitSet items) {
+    return items != null ? (BitSet) items.clone() : new BitSet();
+  }
+}
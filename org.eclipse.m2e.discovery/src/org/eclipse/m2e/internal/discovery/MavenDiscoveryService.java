@@ -14,8 +14,10 @@ package org.eclipse.m2e.internal.discovery;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -119,6 +121,11 @@ public class MavenDiscoveryService implements IMavenDiscoveryUI, IMavenDiscovery
 
   private List<CatalogItemCacheEntry> items;
 
+  /**
+   * Index of {@link #items}, guarded by {@link #itemsLock}
+   */
+  private CatalogItemIndex itemIndex;
+
   /**
    * Lock guarding lazy instantiation of item instance
    */
@@ -301,6 +308,9 @@ public class MavenDiscoveryService implements IMavenDiscoveryUI, IMavenDiscovery
       items = new ArrayList<MavenDiscoveryService.CatalogItemCacheEntry>();
     }
     items.add(new CatalogItemCacheEntry(item, metadataSource, projectConfigurators, mappingStrategies));
+    synchronized(itemsLock) {
+      itemIndex = null;
+    }
   }
 
   private IMavenDiscoveryProposal getProposal(LifecycleMappingMetadataSource src) {
@@ -396,82 +406,74 @@ public class MavenDiscoveryService implements IMavenDiscoveryUI, IMavenDiscovery
     }
 
     Collection<CatalogItem> selectedItems = toCatalogItems(preselected);
+    CatalogItemIndex itemIndex = getItemIndex();
 
-    Map<ILifecycleMappingRequirement, List<IMavenDiscoveryProposal>> allproposals = new LinkedHashMap<ILifecycleMappingRequirement, List<IMavenDiscoveryProposal>>(
-        requirements.size());
-
-    for(CatalogItemCacheEntry itemEntry : items) {
+    // proposals are ordered as if requirements were matched against catalog items one item at a time, i.e.
+    // requirements are ordered by their first matching item and proposals are ordered by catalog item order
+    final Map<ILifecycleMappingRequirement, BitSet> matches = new LinkedHashMap<ILifecycleMappingRequirement, BitSet>();
+    for(ILifecycleMappingRequirement requirement : requirements) {
       if(monitor.isCanceled()) {
         break;
       }
-      CatalogItem item = itemEntry.getItem();
-      if(selectedItems.contains(item)) {
-        continue;
+      BitSet matchingItems = null;
+      if(requirement instanceof MojoExecutionMappingRequirement) {
+        MojoExecutionMappingRequirement meReq = ((MojoExecutionMappingRequirement) requirement);
+        matchingItems = itemIndex.getItemsForExecution(meReq.getExecution(), meReq.getPackaging());
+      } else if(requirement instanceof PackagingTypeMappingRequirement) {
+        String packaging = ((PackagingTypeMappingRequirement) requirement).getPackaging();
+        matchingItems = itemIndex.getItemsForPackaging(packaging);
+      } else if(requirement instanceof LifecycleStrategyMappingRequirement) {
+        String mappingId = ((LifecycleStrategyMappingRequirement) requirement).getLifecycleMappingId();
+        matchingItems = itemIndex.getItemsForMappingStrategy(mappingId);
+      } else if(requirement instanceof ProjectConfiguratorMappingRequirement) {
+        String configuratorId = ((ProjectConfiguratorMappingRequirement) requirement).getProjectConfiguratorId();
+        matchingItems = itemIndex.getItemsForProjectConfigurator(configuratorId);
       }
-      LifecycleMappingMetadataSource src = itemEntry.getMetadataSource();
-      log.debug("Considering catalog item '{}'", item.getName()); //$NON-NLS-1$        
-      for(ILifecycleMappingRequirement requirement : requirements) {
-        boolean matchFound = false;
-        if(requirement instanceof MojoExecutionMappingRequirement) {
-          MojoExecutionMappingRequirement meReq = ((MojoExecutionMappingRequirement) requirement);
-          MojoExecutionKey mek = meReq.getExecution();
-          if(matchesFilter(src, mek, meReq.getPackaging())) {
-            matchFound = true;
-          }
-        } else if(requirement instanceof PackagingTypeMappingRequirement) {
-          String packaging = ((PackagingTypeMappingRequirement) requirement).getPackaging();
-          if(hasPackaging(src, packaging)) {
-            matchFound = true;
-          }
-        } else if(requirement instanceof LifecycleStrategyMappingRequirement) {
-          String mappingId = ((LifecycleStrategyMappingRequirement) requirement).getLifecycleMappingId();
-          if(itemEntry.getMappingStrategies().contains(mappingId)) {
-            matchFound = true;
-          }
-
-        } else if(requirement instanceof ProjectConfiguratorMappingRequirement) {
-          String configuratorId = ((ProjectConfiguratorMappingRequirement) requirement).getProjectConfiguratorId();
-          if(itemEntry.getProjectConfigurators().contains(configuratorId)) {
-            matchFound = true;
+      if(matchingItems != null) {
+        for(int i = matchingItems.nextSetBit(0); i >= 0; i = matchingItems.nextSetBit(i + 1)) {
+          if(selectedItems.contains(items.get(i).getItem())) {
+            matchingItems.clear(i);
           }
-
         }
-        if(matchFound) {
-          IMavenDiscoveryProposal proposal = new InstallCatalogItemMavenDiscoveryProposal(item);
-          put(allproposals, requirement, proposal);
+        if(!matchingItems.isEmpty()) {
+          matches.put(requirement, matchingItems);
         }
       }
     }
 
-    return allproposals;
-  }
-
-  private static boolean matchesFilter(LifecycleMappingMetadataSource src, MojoExecutionKey mojoExecution, String type) {
-    for(PluginExecutionMetadata p : src.getPluginExecutions()) {
-      if(p.getFilter().match(mojoExecution)) {
-        return true;
+    List<ILifecycleMappingRequirement> matchedRequirements = new ArrayList<ILifecycleMappingRequirement>(
+        matches.keySet());
+    // stable sort keeps requirement order for requirements with the same first matching item
+    Collections.sort(matchedRequirements, new Comparator<ILifecycleMappingRequirement>() {
+      public int compare(ILifecycleMappingRequirement r1, ILifecycleMappingRequirement r2) {
+        return Integer.compare(matches.get(r1).nextSetBit(0), matches.get(r2).nextSetBit(0));
       }
-    }
-    for(LifecycleMappingMetadata lm : src.getLifecycleMappings()) {
-      if((type == null && lm.getPackagingType() == null) || (type != null && type.equals(lm.getPackagingType()))) {
-        for(PluginExecutionMetadata p : lm.getPluginExecutions()) {
-          if(p.getFilter().match(mojoExecution)) {
-            return true;
-          }
-        }
+    });
+
+    Map<ILifecycleMappingRequirement, List<IMavenDiscoveryProposal>> allproposals = new LinkedHashMap<ILifecycleMappingRequirement, List<IMavenDiscoveryProposal>>(
+        matchedRequirements.size());
+    for(ILifecycleMappingRequirement requirement : matchedRequirements) {
+      BitSet matchingItems = matches.get(requirement);
+      for(int i = matchingItems.nextSetBit(0); i >= 0; i = matchingItems.nextSetBit(i + 1)) {
+        CatalogItem item = items.get(i).getItem();
+        log.debug("Catalog item '{}' matches requirement {}", item.getName(), requirement); //$NON-NLS-1$
+        put(allproposals, requirement, new InstallCatalogItemMavenDiscoveryProposal(item));
       }
     }
-    return false;
+
+    return allproposals;
   }
 
-  private static boolean hasPackaging(LifecycleMappingMetadataSource lifecycleMappingMetadataSource,
-      String packagingType) {
-    for(LifecycleMappingMetadata lifecycleMappingMetadata : lifecycleMappingMetadataSource.getLifecycleMappings()) {
-      if(packagingType.equals(lifecycleMappingMetadata.getPackagingType())) {
-        return true;
+  /**
+   * Returns index of catalog items, built once per catalog load.
+   */
+  private CatalogItemIndex getItemIndex() {
+    synchronized(itemsLock) {
+      if(itemIndex == null) {
+        itemIndex = new CatalogItemIndex(items);
       }
+      return itemIndex;
     }
-    return false;
   }
 
 }